@@ -286,8 +286,11 @@ public final class OffsetDateTime
     public static OffsetDateTime ofInstant(Instant instant, ZoneId zone) {
         Jdk8Methods.requireNonNull(instant, "instant");
         Jdk8Methods.requireNonNull(zone, "zone");
-        ZoneRules rules = zone.getRules();
-        ZoneOffset offset = rules.getOffset(instant);
+        ZoneOffset offset = zone.getFixedOffset();
+        if (offset == null) {
+            ZoneRules rules = zone.getRules();
+            offset = rules.getOffset(instant);
+        }
         LocalDateTime ldt = LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), offset);
         return new OffsetDateTime(ldt, offset);
     }
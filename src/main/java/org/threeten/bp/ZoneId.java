@@ -455,6 +455,21 @@ public abstract class ZoneId implements Serializable {
      */
     public abstract ZoneRules getRules();
 
+    /**
+     * Gets the offset if the rules of this ID are known to be fixed.
+     * <p>
+     * This allows callers to avoid querying the rules in the common case of
+     * UTC and other fixed offsets. It does not look up rules that are not yet known.
+     * <p>
+     * {@link ZoneOffset} will always return itself. A region ID returns the offset
+     * if the rules were known to be fixed when the ID was created.
+     *
+     * @return the fixed offset, null if the offset varies or is not known
+     */
+    public ZoneOffset getFixedOffset() {
+        return null;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the textual representation of the zone, such as 'British Time' or
@@ -505,6 +520,10 @@ public abstract class ZoneId implements Serializable {
      * @return the time-zone unique ID, not null
      */
     public ZoneId normalized() {
+        ZoneOffset fixedOffset = getFixedOffset();
+        if (fixedOffset != null) {
+            return fixedOffset;
+        }
         try {
             ZoneRules rules = getRules();
             if (rules.isFixedOffset()) {
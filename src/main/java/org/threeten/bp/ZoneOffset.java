@@ -480,6 +480,11 @@ public final class ZoneOffset
         return ZoneRules.of(this);
     }
 
+    @Override
+    public ZoneOffset getFixedOffset() {
+        return this;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if the specified field is supported.
@@ -37,6 +37,8 @@ import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import org.threeten.bp.jdk8.Jdk8Methods;
@@ -72,6 +74,10 @@ final class ZoneRegion extends ZoneId implements Serializable {
      * The regex pattern for region IDs.
      */
     private static final Pattern PATTERN = Pattern.compile("[A-Za-z][A-Za-z0-9~/._+-]+");
+    /**
+     * The cache of regions with available rules, keyed by ID.
+     */
+    private static final ConcurrentMap<String, ZoneRegion> CACHE = new ConcurrentHashMap<String, ZoneRegion>(512, 0.75f, 2);
 
     /**
      * The time-zone ID, not null.
@@ -81,6 +87,10 @@ final class ZoneRegion extends ZoneId implements Serializable {
      * The time-zone rules, null if zone ID was loaded leniently.
      */
     private final transient ZoneRules rules;
+    /**
+     * The offset if the rules are fixed, null if the offset varies or the rules are not known.
+     */
+    private final transient ZoneOffset fixedOffset;
 
     /**
      * Obtains an instance of {@code ZoneRegion} from an identifier without checking
@@ -125,6 +135,11 @@ final class ZoneRegion extends ZoneId implements Serializable {
 
     /**
      * Obtains an instance of {@code ZoneId} from an identifier.
+     * <p>
+     * Regions with available rules are cached, thus a repeated lookup of the same ID
+     * avoids validating the format and creating a new instance.
+     * The cached region is only returned if it still holds the latest cached rules,
+     * which handles rules that have been changed by {@link ZoneRulesProvider#refresh()}.
      *
      * @param zoneId  the time-zone ID, not null
      * @param checkAvailable  whether to check if the zone ID is available
@@ -134,13 +149,22 @@ final class ZoneRegion extends ZoneId implements Serializable {
      */
     static ZoneRegion ofId(String zoneId, boolean checkAvailable) {
         Jdk8Methods.requireNonNull(zoneId, "zoneId");
-        if (zoneId.length() < 2 || PATTERN.matcher(zoneId).matches() == false) {
+        ZoneRegion cached = CACHE.get(zoneId);
+        if (cached == null && (zoneId.length() < 2 || PATTERN.matcher(zoneId).matches() == false)) {
             throw new DateTimeException("Invalid ID for region-based ZoneId, invalid format: " + zoneId);
         }
         ZoneRules rules = null;
         try {
             // always attempt load for better behavior after deserialization
             rules = ZoneRulesProvider.getRules(zoneId, true);
+            if (cached != null && cached.rules == rules) {
+                return cached;
+            }
+            if (rules != null) {
+                ZoneRegion region = new ZoneRegion(zoneId, rules);
+                CACHE.put(zoneId, region);
+                return region;
+            }
         } catch (ZoneRulesException ex) {
             // special case as removed from data file
             if (zoneId.equals("GMT0")) {
@@ -162,6 +186,7 @@ final class ZoneRegion extends ZoneId implements Serializable {
     ZoneRegion(String id, ZoneRules rules) {
         this.id = id;
         this.rules = rules;
+        this.fixedOffset = (rules != null && rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH) : null);
     }
 
     //-----------------------------------------------------------------------
@@ -177,6 +202,11 @@ final class ZoneRegion extends ZoneId implements Serializable {
         return (rules != null ? rules : ZoneRulesProvider.getRules(id, false));
     }
 
+    @Override
+    public ZoneOffset getFixedOffset() {
+        return fixedOffset;
+    }
+
     //-----------------------------------------------------------------------
     private Object writeReplace() {
         return new Ser(Ser.ZONE_REGION_TYPE, this);
@@ -335,8 +335,9 @@ public final class ZonedDateTime
     public static ZonedDateTime ofLocal(LocalDateTime localDateTime, ZoneId zone, ZoneOffset preferredOffset) {
         Jdk8Methods.requireNonNull(localDateTime, "localDateTime");
         Jdk8Methods.requireNonNull(zone, "zone");
-        if (zone instanceof ZoneOffset) {
-            return new ZonedDateTime(localDateTime, (ZoneOffset) zone, zone);
+        ZoneOffset fixedOffset = zone.getFixedOffset();
+        if (fixedOffset != null) {
+            return new ZonedDateTime(localDateTime, fixedOffset, zone);
         }
         ZoneRules rules = zone.getRules();
         List<ZoneOffset> validOffsets = rules.getValidOffsets(localDateTime);
@@ -416,9 +417,12 @@ public final class ZonedDateTime
      * @throws DateTimeException if the result exceeds the supported range
      */
     private static ZonedDateTime create(long epochSecond, int nanoOfSecond, ZoneId zone) {
-        ZoneRules rules = zone.getRules();
-        Instant instant = Instant.ofEpochSecond(epochSecond, nanoOfSecond);  // TODO: rules should be queryable by epochSeconds
-        ZoneOffset offset = rules.getOffset(instant);
+        ZoneOffset offset = zone.getFixedOffset();
+        if (offset == null) {
+            ZoneRules rules = zone.getRules();
+            Instant instant = Instant.ofEpochSecond(epochSecond, nanoOfSecond);  // TODO: rules should be queryable by epochSeconds
+            offset = rules.getOffset(instant);
+        }
         LocalDateTime ldt = LocalDateTime.ofEpochSecond(epochSecond, nanoOfSecond, offset);
         return new ZonedDateTime(ldt, offset, zone);
     }
@@ -441,6 +445,14 @@ public final class ZonedDateTime
         Jdk8Methods.requireNonNull(localDateTime, "localDateTime");
         Jdk8Methods.requireNonNull(offset, "offset");
         Jdk8Methods.requireNonNull(zone, "zone");
+        ZoneOffset fixedOffset = zone.getFixedOffset();
+        if (fixedOffset != null) {
+            if (fixedOffset.equals(offset) == false) {
+                throw new DateTimeException("ZoneOffset '" + offset + "' is not valid for LocalDateTime '" +
+                        localDateTime + "' in zone '" + zone + "'");
+            }
+            return new ZonedDateTime(localDateTime, offset, zone);
+        }
         ZoneRules rules = zone.getRules();
         if (rules.isValidOffset(localDateTime, offset) == false) {
             ZoneOffsetTransition trans = rules.getTransition(localDateTime);
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A character sequence view over a range of ASCII bytes.
+ * <p>
+ * This allows bytes, such as those in a memory-mapped file, to be parsed
+ * without first decoding them to a {@code String}.
+ * Each byte is mapped to the character of the same value, thus bytes outside
+ * the ASCII range are seen as ISO-8859-1 characters.
+ * The bytes are not copied, thus changes to the underlying array or buffer
+ * are visible through the view.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ * It is reset to view a new range by the owning {@link DateTimeParser}.
+ */
+final class AsciiCharSequence implements CharSequence {
+
+    /**
+     * The byte array, null if viewing a buffer without an accessible array.
+     */
+    private byte[] bytes;
+    /**
+     * The buffer, null if viewing an array.
+     */
+    private ByteBuffer buffer;
+    /**
+     * The absolute index of the first byte.
+     */
+    private int offset;
+    /**
+     * The number of bytes viewed.
+     */
+    private int length;
+
+    /**
+     * Constructor for an empty view.
+     */
+    AsciiCharSequence() {
+        this.bytes = new byte[0];
+    }
+
+    /**
+     * Constructor viewing a range of a byte array.
+     *
+     * @param bytes  the bytes to view, not null
+     * @param offset  the index of the first byte to view
+     * @param length  the number of bytes to view
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    AsciiCharSequence(byte[] bytes, int offset, int length) {
+        reset(bytes, offset, length);
+    }
+
+    /**
+     * Constructor viewing the remaining bytes of a buffer.
+     * <p>
+     * The position of the buffer is not changed.
+     *
+     * @param buffer  the buffer to view, not null
+     */
+    AsciiCharSequence(ByteBuffer buffer) {
+        reset(buffer, buffer.position(), buffer.remaining());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Resets the view to a range of a byte array.
+     *
+     * @param bytes  the bytes to view, not null
+     * @param offset  the index of the first byte to view
+     * @param length  the number of bytes to view
+     * @return this, for chaining, not null
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    AsciiCharSequence reset(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("Invalid range: offset " + offset + ", length " + length + ", array length " + bytes.length);
+        }
+        this.bytes = bytes;
+        this.buffer = null;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    /**
+     * Resets the view to a range of a buffer, specified using absolute indices.
+     * <p>
+     * Where the buffer is backed by an accessible array, the array is viewed directly.
+     *
+     * @param buffer  the buffer to view, not null
+     * @param index  the absolute index of the first byte to view
+     * @param length  the number of bytes to view
+     * @return this, for chaining, not null
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    AsciiCharSequence reset(ByteBuffer buffer, int index, int length) {
+        if (index < 0 || length < 0 || index > buffer.limit() - length) {
+            throw new IndexOutOfBoundsException("Invalid range: index " + index + ", length " + length + ", buffer limit " + buffer.limit());
+        }
+        if (buffer.hasArray()) {
+            return reset(buffer.array(), buffer.arrayOffset() + index, length);
+        }
+        this.bytes = null;
+        this.buffer = buffer;
+        this.offset = index;
+        this.length = length;
+        return this;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index + ", length " + length);
+        }
+        if (bytes != null) {
+            return (char) (bytes[offset + index] & 0xFF);
+        }
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("Invalid range: start " + start + ", end " + end + ", length " + length);
+        }
+        AsciiCharSequence sub = new AsciiCharSequence();
+        sub.bytes = bytes;
+        sub.buffer = buffer;
+        sub.offset = offset + start;
+        sub.length = end - start;
+        return sub;
+    }
+
+    /**
+     * Decodes the viewed bytes to a string.
+     * <p>
+     * This copies the bytes, and is intended for use in error messages.
+     *
+     * @return the viewed bytes as a string, not null
+     */
+    @Override
+    public String toString() {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = charAt(i);
+        }
+        return new String(chars);
+    }
+
+}
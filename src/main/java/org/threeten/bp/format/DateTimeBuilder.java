@@ -50,7 +50,6 @@ import static org.threeten.bp.temporal.ChronoField.OFFSET_SECONDS;
 import static org.threeten.bp.temporal.ChronoField.SECOND_OF_DAY;
 import static org.threeten.bp.temporal.ChronoField.SECOND_OF_MINUTE;
 
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -99,7 +98,7 @@ final class DateTimeBuilder
     /**
      * The map of other fields.
      */
-    final Map<TemporalField, Long> fieldValues = new HashMap<TemporalField, Long>();
+    final FieldValueMap fieldValues = new FieldValueMap();
     /**
      * The chronology.
      */
@@ -145,8 +144,20 @@ final class DateTimeBuilder
     }
 
     //-----------------------------------------------------------------------
-    private Long getFieldValue0(TemporalField field) {
-        return fieldValues.get(field);
+    /**
+     * Clears the builder so that it can be reused.
+     *
+     * @return {@code this}, for method chaining
+     */
+    DateTimeBuilder clear() {
+        fieldValues.clear();
+        chrono = null;
+        zone = null;
+        date = null;
+        time = null;
+        leapSecond = false;
+        excessDays = null;
+        return this;
     }
 
     /**
@@ -165,15 +176,13 @@ final class DateTimeBuilder
      */
     DateTimeBuilder addFieldValue(TemporalField field, long value) {
         Jdk8Methods.requireNonNull(field, "field");
-        Long old = getFieldValue0(field);  // check first for better error message
-        if (old != null && old.longValue() != value) {
-            throw new DateTimeException("Conflict found: " + field + " " + old + " differs from " + field + " " + value + ": " + this);
+        if (fieldValues.containsKey(field)) {  // check first for better error message
+            long old = fieldValues.getValue(field);
+            if (old != value) {
+                throw new DateTimeException("Conflict found: " + field + " " + old + " differs from " + field + " " + value + ": " + this);
+            }
         }
-        return putFieldValue0(field, value);
-    }
-
-    private DateTimeBuilder putFieldValue0(TemporalField field, long value) {
-        fieldValues.put(field, value);
+        fieldValues.putValue(field, value);
         return this;
     }
 
@@ -225,7 +234,8 @@ final class DateTimeBuilder
         int changes = 0;
         outer:
         while (changes < 100) {
-            for (Map.Entry<TemporalField, Long> entry : fieldValues.entrySet()) {
+            // ChronoField does not resolve, so only the other fields need to be checked
+            for (Map.Entry<TemporalField, Long> entry : fieldValues.otherEntrySet()) {
                 TemporalField targetField = entry.getKey();
                 TemporalAccessor resolvedObject = targetField.resolve(fieldValues, this, resolverStyle);
                 if (resolvedObject != null) {
@@ -274,22 +284,28 @@ final class DateTimeBuilder
             throw new DateTimeException("ChronoLocalDate must use the effective parsed chronology: " + chrono);
         }
         long epochDay = date.toEpochDay();
-        Long old = fieldValues.put(ChronoField.EPOCH_DAY, epochDay);
-        if (old != null && old.longValue() != epochDay) {
-            throw new DateTimeException("Conflict found: " + LocalDate.ofEpochDay(old) +
-                    " differs from " + LocalDate.ofEpochDay(epochDay) +
-                    " while resolving  " + targetField);
+        if (fieldValues.containsKey(EPOCH_DAY)) {
+            long old = fieldValues.getValue(EPOCH_DAY);
+            if (old != epochDay) {
+                throw new DateTimeException("Conflict found: " + LocalDate.ofEpochDay(old) +
+                        " differs from " + LocalDate.ofEpochDay(epochDay) +
+                        " while resolving  " + targetField);
+            }
         }
+        fieldValues.putValue(EPOCH_DAY, epochDay);
     }
 
     private void resolveMakeChanges(TemporalField targetField, LocalTime time) {
         long nanOfDay = time.toNanoOfDay();
-        Long old = fieldValues.put(ChronoField.NANO_OF_DAY, nanOfDay);
-        if (old != null && old.longValue() != nanOfDay) {
-            throw new DateTimeException("Conflict found: " + LocalTime.ofNanoOfDay(old) +
-                    " differs from " + time +
-                    " while resolving  " + targetField);
+        if (fieldValues.containsKey(NANO_OF_DAY)) {
+            long old = fieldValues.getValue(NANO_OF_DAY);
+            if (old != nanOfDay) {
+                throw new DateTimeException("Conflict found: " + LocalTime.ofNanoOfDay(old) +
+                        " differs from " + time +
+                        " while resolving  " + targetField);
+            }
         }
+        fieldValues.putValue(NANO_OF_DAY, nanOfDay);
     }
 
     private void mergeDate(ResolverStyle resolverStyle) {
@@ -297,7 +313,7 @@ final class DateTimeBuilder
             checkDate(IsoChronology.INSTANCE.resolveDate(fieldValues, resolverStyle));
         } else {
             if (fieldValues.containsKey(EPOCH_DAY)) {
-                checkDate(LocalDate.ofEpochDay(fieldValues.remove(EPOCH_DAY)));
+                checkDate(LocalDate.ofEpochDay(fieldValues.removeValue(EPOCH_DAY)));
                 return;
             }
         }
@@ -315,7 +331,7 @@ final class DateTimeBuilder
                         } catch (DateTimeException ex) {
                             continue;
                         }
-                        Long val2 = fieldValues.get(field);
+                        long val2 = fieldValues.getValue(field);
                         if (val1 != val2) {
                             throw new DateTimeException("Conflict found: Field " + field + " " + val1 + " differs from " + field + " " + val2 + " derived from " + date);
                         }
@@ -327,7 +343,7 @@ final class DateTimeBuilder
 
     private void mergeTime(ResolverStyle resolverStyle) {
         if (fieldValues.containsKey(CLOCK_HOUR_OF_DAY)) {
-            long ch = fieldValues.remove(CLOCK_HOUR_OF_DAY);
+            long ch = fieldValues.removeValue(CLOCK_HOUR_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 if (resolverStyle == ResolverStyle.SMART && ch == 0) {
                     // ok
@@ -338,7 +354,7 @@ final class DateTimeBuilder
             addFieldValue(HOUR_OF_DAY, ch == 24 ? 0 : ch);
         }
         if (fieldValues.containsKey(CLOCK_HOUR_OF_AMPM)) {
-            long ch = fieldValues.remove(CLOCK_HOUR_OF_AMPM);
+            long ch = fieldValues.removeValue(CLOCK_HOUR_OF_AMPM);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 if (resolverStyle == ResolverStyle.SMART && ch == 0) {
                     // ok
@@ -350,15 +366,15 @@ final class DateTimeBuilder
         }
         if (resolverStyle != ResolverStyle.LENIENT) {
             if (fieldValues.containsKey(AMPM_OF_DAY)) {
-                AMPM_OF_DAY.checkValidValue(fieldValues.get(AMPM_OF_DAY));
+                AMPM_OF_DAY.checkValidValue(fieldValues.getValue(AMPM_OF_DAY));
             }
             if (fieldValues.containsKey(HOUR_OF_AMPM)) {
-                HOUR_OF_AMPM.checkValidValue(fieldValues.get(HOUR_OF_AMPM));
+                HOUR_OF_AMPM.checkValidValue(fieldValues.getValue(HOUR_OF_AMPM));
             }
         }
         if (fieldValues.containsKey(AMPM_OF_DAY) && fieldValues.containsKey(HOUR_OF_AMPM)) {
-            long ap = fieldValues.remove(AMPM_OF_DAY);
-            long hap = fieldValues.remove(HOUR_OF_AMPM);
+            long ap = fieldValues.removeValue(AMPM_OF_DAY);
+            long hap = fieldValues.removeValue(HOUR_OF_AMPM);
             addFieldValue(HOUR_OF_DAY, ap * 12 + hap);
         }
 //        if (timeFields.containsKey(HOUR_OF_DAY) && timeFields.containsKey(MINUTE_OF_HOUR)) {
@@ -372,7 +388,7 @@ final class DateTimeBuilder
 //            addFieldValue(SECOND_OF_DAY, mod * 60 + som);
 //        }
         if (fieldValues.containsKey(NANO_OF_DAY)) {
-            long nod = fieldValues.remove(NANO_OF_DAY);
+            long nod = fieldValues.removeValue(NANO_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 NANO_OF_DAY.checkValidValue(nod);
             }
@@ -380,7 +396,7 @@ final class DateTimeBuilder
             addFieldValue(NANO_OF_SECOND, nod % 1000000000L);
         }
         if (fieldValues.containsKey(MICRO_OF_DAY)) {
-            long cod = fieldValues.remove(MICRO_OF_DAY);
+            long cod = fieldValues.removeValue(MICRO_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 MICRO_OF_DAY.checkValidValue(cod);
             }
@@ -388,7 +404,7 @@ final class DateTimeBuilder
             addFieldValue(MICRO_OF_SECOND, cod % 1000000L);
         }
         if (fieldValues.containsKey(MILLI_OF_DAY)) {
-            long lod = fieldValues.remove(MILLI_OF_DAY);
+            long lod = fieldValues.removeValue(MILLI_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 MILLI_OF_DAY.checkValidValue(lod);
             }
@@ -396,7 +412,7 @@ final class DateTimeBuilder
             addFieldValue(MILLI_OF_SECOND, lod % 1000);
         }
         if (fieldValues.containsKey(SECOND_OF_DAY)) {
-            long sod = fieldValues.remove(SECOND_OF_DAY);
+            long sod = fieldValues.removeValue(SECOND_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 SECOND_OF_DAY.checkValidValue(sod);
             }
@@ -405,7 +421,7 @@ final class DateTimeBuilder
             addFieldValue(SECOND_OF_MINUTE, sod % 60);
         }
         if (fieldValues.containsKey(MINUTE_OF_DAY)) {
-            long mod = fieldValues.remove(MINUTE_OF_DAY);
+            long mod = fieldValues.removeValue(MINUTE_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 MINUTE_OF_DAY.checkValidValue(mod);
             }
@@ -420,32 +436,32 @@ final class DateTimeBuilder
 //            addFieldValue(NANO_OF_SECOND, nod % 1000000000L);
         if (resolverStyle != ResolverStyle.LENIENT) {
             if (fieldValues.containsKey(MILLI_OF_SECOND)) {
-                MILLI_OF_SECOND.checkValidValue(fieldValues.get(MILLI_OF_SECOND));
+                MILLI_OF_SECOND.checkValidValue(fieldValues.getValue(MILLI_OF_SECOND));
             }
             if (fieldValues.containsKey(MICRO_OF_SECOND)) {
-                MICRO_OF_SECOND.checkValidValue(fieldValues.get(MICRO_OF_SECOND));
+                MICRO_OF_SECOND.checkValidValue(fieldValues.getValue(MICRO_OF_SECOND));
             }
         }
         if (fieldValues.containsKey(MILLI_OF_SECOND) && fieldValues.containsKey(MICRO_OF_SECOND)) {
-            long los = fieldValues.remove(MILLI_OF_SECOND);
-            long cos = fieldValues.get(MICRO_OF_SECOND);
+            long los = fieldValues.removeValue(MILLI_OF_SECOND);
+            long cos = fieldValues.getValue(MICRO_OF_SECOND);
             addFieldValue(MICRO_OF_SECOND, los * 1000 + (cos % 1000));
         }
         if (fieldValues.containsKey(MICRO_OF_SECOND) && fieldValues.containsKey(NANO_OF_SECOND)) {
-            long nos = fieldValues.get(NANO_OF_SECOND);
+            long nos = fieldValues.getValue(NANO_OF_SECOND);
             addFieldValue(MICRO_OF_SECOND, nos / 1000);
-            fieldValues.remove(MICRO_OF_SECOND);
+            fieldValues.removeField(MICRO_OF_SECOND);
         }
         if (fieldValues.containsKey(MILLI_OF_SECOND) && fieldValues.containsKey(NANO_OF_SECOND)) {
-            long nos = fieldValues.get(NANO_OF_SECOND);
+            long nos = fieldValues.getValue(NANO_OF_SECOND);
             addFieldValue(MILLI_OF_SECOND, nos / 1000000);
-            fieldValues.remove(MILLI_OF_SECOND);
+            fieldValues.removeField(MILLI_OF_SECOND);
         }
         if (fieldValues.containsKey(MICRO_OF_SECOND)) {
-            long cos = fieldValues.remove(MICRO_OF_SECOND);
+            long cos = fieldValues.removeValue(MICRO_OF_SECOND);
             addFieldValue(NANO_OF_SECOND, cos * 1000);
         } else if (fieldValues.containsKey(MILLI_OF_SECOND)) {
-            long los = fieldValues.remove(MILLI_OF_SECOND);
+            long los = fieldValues.removeValue(MILLI_OF_SECOND);
             addFieldValue(NANO_OF_SECOND, los * 1000000);
         }
     }
@@ -528,10 +544,10 @@ final class DateTimeBuilder
                 }
             }
         }
-        fieldValues.remove(HOUR_OF_DAY);
-        fieldValues.remove(MINUTE_OF_HOUR);
-        fieldValues.remove(SECOND_OF_MINUTE);
-        fieldValues.remove(NANO_OF_SECOND);
+        fieldValues.removeField(HOUR_OF_DAY);
+        fieldValues.removeField(MINUTE_OF_HOUR);
+        fieldValues.removeField(SECOND_OF_MINUTE);
+        fieldValues.removeField(NANO_OF_SECOND);
     }
 
     //-----------------------------------------------------------------------
@@ -550,7 +566,7 @@ final class DateTimeBuilder
     }
 
     private void mergeInstantFields0(ZoneId selectedZone) {
-        Instant instant = Instant.ofEpochSecond(fieldValues.remove(INSTANT_SECONDS));
+        Instant instant = Instant.ofEpochSecond(fieldValues.removeValue(INSTANT_SECONDS));
         ChronoZonedDateTime<?> zdt = chrono.zonedDateTime(instant, selectedZone);
         if (date == null) {
             addObject(zdt.toLocalDate());
@@ -601,13 +617,13 @@ final class DateTimeBuilder
                     fieldValues.containsKey(SECOND_OF_DAY) ||
                     fieldValues.containsKey(SECOND_OF_MINUTE))) {
             if (fieldValues.containsKey(NANO_OF_SECOND)) {
-                long nos = fieldValues.get(NANO_OF_SECOND);
-                fieldValues.put(MICRO_OF_SECOND, nos / 1000);
-                fieldValues.put(MILLI_OF_SECOND, nos / 1000000);
+                long nos = fieldValues.getValue(NANO_OF_SECOND);
+                fieldValues.putValue(MICRO_OF_SECOND, nos / 1000);
+                fieldValues.putValue(MILLI_OF_SECOND, nos / 1000000);
             } else {
-                fieldValues.put(NANO_OF_SECOND, 0L);
-                fieldValues.put(MICRO_OF_SECOND, 0L);
-                fieldValues.put(MILLI_OF_SECOND, 0L);
+                fieldValues.putValue(NANO_OF_SECOND, 0L);
+                fieldValues.putValue(MICRO_OF_SECOND, 0L);
+                fieldValues.putValue(MILLI_OF_SECOND, 0L);
             }
         }
     }
@@ -615,14 +631,21 @@ final class DateTimeBuilder
     private void resolveInstant() {
         if (date != null && time != null) {
             if (zone != null) {
-                long instant = date.atTime(time).atZone(zone).getLong(ChronoField.INSTANT_SECONDS);
-                fieldValues.put(INSTANT_SECONDS, instant);
+                ZoneOffset fixedOffset = zone.getFixedOffset();
+                long instant;
+                if (fixedOffset != null) {
+                    // fixed offset, so no need to create the zoned date-time
+                    instant = date.atTime(time).toEpochSecond(fixedOffset);
+                } else {
+                    instant = date.atTime(time).atZone(zone).getLong(ChronoField.INSTANT_SECONDS);
+                }
+                fieldValues.putValue(INSTANT_SECONDS, instant);
             } else {
                 Long offsetSecs = fieldValues.get(OFFSET_SECONDS);
                 if (offsetSecs != null) {
                     ZoneOffset offset = ZoneOffset.ofTotalSeconds(offsetSecs.intValue());
-                    long instant = date.atTime(time).atZone(offset).getLong(ChronoField.INSTANT_SECONDS);
-                    fieldValues.put(INSTANT_SECONDS, instant);
+                    long instant = date.atTime(time).toEpochSecond(offset);
+                    fieldValues.putValue(INSTANT_SECONDS, instant);
                 }
             }
         }
@@ -658,8 +681,7 @@ final class DateTimeBuilder
     @Override
     public long getLong(TemporalField field) {
         Jdk8Methods.requireNonNull(field, "field");
-        Long value = getFieldValue0(field);
-        if (value == null) {
+        if (fieldValues.containsKey(field) == false) {
             if (date != null && date.isSupported(field)) {
                 return date.getLong(field);
             }
@@ -668,7 +690,7 @@ final class DateTimeBuilder
             }
             throw new DateTimeException("Field not found: " + field);
         }
-        return value;
+        return fieldValues.getValue(field);
     }
 
     @SuppressWarnings("unchecked")
@@ -42,19 +42,33 @@ import static org.threeten.bp.temporal.ChronoField.SECOND_OF_MINUTE;
 import static org.threeten.bp.temporal.ChronoField.YEAR;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.text.FieldPosition;
 import java.text.Format;
 import java.text.ParseException;
 import java.text.ParsePosition;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
 import org.threeten.bp.Period;
 import org.threeten.bp.ZoneId;
 import org.threeten.bp.ZoneOffset;
@@ -64,6 +78,7 @@ import org.threeten.bp.format.DateTimeFormatterBuilder.CompositePrinterParser;
 import org.threeten.bp.format.DateTimeParseContext.Parsed;
 import org.threeten.bp.jdk8.Jdk8Methods;
 import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.ChronoUnit;
 import org.threeten.bp.temporal.IsoFields;
 import org.threeten.bp.temporal.TemporalAccessor;
 import org.threeten.bp.temporal.TemporalField;
@@ -758,13 +773,17 @@ public final class DateTimeFormatter {
      * Despite this, it is recommended to use single quotes around all characters that you want to
      * output directly to ensure that future changes do not break your application.
      *
+     * <p>
+     * Formatters are immutable, thus the formatter for a pattern and locale may be
+     * cached and returned by subsequent calls.
+     *
      * @param pattern  the pattern to use, not null
      * @return the formatter based on the pattern, not null
      * @throws IllegalArgumentException if the pattern is invalid
      * @see DateTimeFormatterBuilder#appendPattern(String)
      */
     public static DateTimeFormatter ofPattern(String pattern) {
-        return new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter();
+        return ofPattern(pattern, Locale.getDefault());
     }
 
     /**
@@ -777,6 +796,9 @@ public final class DateTimeFormatter {
      * <p>
      * The returned formatter will use the specified locale, but this can be changed
      * using {@link DateTimeFormatter#withLocale(Locale)}.
+     * <p>
+     * Formatters are immutable, thus the formatter for a pattern and locale may be
+     * cached and returned by subsequent calls.
      *
      * @param pattern  the pattern to use, not null
      * @param locale  the locale to use, not null
@@ -785,7 +807,66 @@ public final class DateTimeFormatter {
      * @see DateTimeFormatterBuilder#appendPattern(String)
      */
     public static DateTimeFormatter ofPattern(String pattern, Locale locale) {
-        return new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale);
+        Jdk8Methods.requireNonNull(pattern, "pattern");
+        Jdk8Methods.requireNonNull(locale, "locale");
+        Entry<String, Locale> key = new SimpleImmutableEntry<String, Locale>(pattern, locale);
+        DateTimeFormatter formatter = PATTERN_CACHE.get(key);
+        if (formatter != null) {
+            PATTERN_CACHE_HITS.incrementAndGet();
+            return formatter;
+        }
+        PATTERN_CACHE_MISSES.incrementAndGet();
+        formatter = new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale);
+        if (PATTERN_CACHE.size() < MAX_CACHED_PATTERNS) {
+            DateTimeFormatter existing = PATTERN_CACHE.putIfAbsent(key, formatter);
+            if (existing != null) {
+                formatter = existing;
+            }
+        }
+        return formatter;
+    }
+
+    /**
+     * The maximum number of formatters cached by {@link #ofPattern(String, Locale)}.
+     */
+    private static final int MAX_CACHED_PATTERNS = 512;
+    /**
+     * The formatters created by {@link #ofPattern(String, Locale)}, keyed by pattern and locale.
+     */
+    private static final ConcurrentMap<Entry<String, Locale>, DateTimeFormatter> PATTERN_CACHE =
+            new ConcurrentHashMap<Entry<String, Locale>, DateTimeFormatter>(16, 0.75f, 2);
+    /**
+     * The number of calls to {@code ofPattern} that found a cached formatter.
+     */
+    private static final AtomicLong PATTERN_CACHE_HITS = new AtomicLong();
+    /**
+     * The number of calls to {@code ofPattern} that compiled the pattern.
+     */
+    private static final AtomicLong PATTERN_CACHE_MISSES = new AtomicLong();
+
+    /**
+     * Gets the number of calls to {@code ofPattern} that returned a cached formatter.
+     * <p>
+     * This is intended for monitoring the effectiveness of the pattern cache.
+     * The cache holds a limited number of pattern and locale combinations.
+     * Once full, further combinations are compiled on each call and count as misses.
+     *
+     * @return the number of cache hits since the class was loaded
+     */
+    public static long getPatternCacheHitCount() {
+        return PATTERN_CACHE_HITS.get();
+    }
+
+    /**
+     * Gets the number of calls to {@code ofPattern} that compiled the pattern.
+     * <p>
+     * This is intended for monitoring the effectiveness of the pattern cache.
+     * This count includes invalid patterns, which are never cached.
+     *
+     * @return the number of cache misses since the class was loaded
+     */
+    public static long getPatternCacheMissCount() {
+        return PATTERN_CACHE_MISSES.get();
     }
 
     //-----------------------------------------------------------------------
@@ -1383,6 +1464,17 @@ public final class DateTimeFormatter {
             DateTimePrintContext context = new DateTimePrintContext(temporal, this);
             if (appendable instanceof StringBuilder) {
                 printerParser.print(context, (StringBuilder) appendable);
+            } else if (appendable instanceof CharBuffer) {
+                // copy directly, as CharBuffer.append creates a String
+                StringBuilder buf = new StringBuilder(32);
+                printerParser.print(context, buf);
+                CharBuffer charBuffer = (CharBuffer) appendable;
+                if (buf.length() > charBuffer.remaining()) {
+                    throw new BufferOverflowException();
+                }
+                for (int i = 0; i < buf.length(); i++) {
+                    charBuffer.put(buf.charAt(i));
+                }
             } else {
                 // buffer output to avoid writing to appendable in case of error
                 StringBuilder buf = new StringBuilder(32);
@@ -1394,6 +1486,244 @@ public final class DateTimeFormatter {
         }
     }
 
+    /**
+     * Formats a date-time object into a {@code char} array using this formatter.
+     * <p>
+     * This formats the date-time directly into the array, starting at the specified offset,
+     * without creating a {@code String}. The array is not altered if an error occurs.
+     *
+     * @param temporal  the temporal object to print, not null
+     * @param chars  the array to print to, not null
+     * @param offset  the offset in the array to start printing at
+     * @return the number of characters printed
+     * @throws DateTimeException if an error occurs during formatting
+     * @throws IndexOutOfBoundsException if the offset is invalid or the array is too small
+     */
+    public int formatTo(TemporalAccessor temporal, char[] chars, int offset) {
+        Jdk8Methods.requireNonNull(temporal, "temporal");
+        Jdk8Methods.requireNonNull(chars, "chars");
+        StringBuilder buf = new StringBuilder(32);
+        printerParser.print(new DateTimePrintContext(temporal, this), buf);
+        int length = buf.length();
+        if (offset < 0 || offset > chars.length - length) {
+            throw new IndexOutOfBoundsException("Unable to print " + length + " characters at offset " + offset +
+                    " in array of length " + chars.length);
+        }
+        buf.getChars(0, length, chars, offset);
+        return length;
+    }
+
+    /**
+     * Formats a date-time object into a {@code byte} array as UTF-8 using this formatter.
+     * <p>
+     * This formats the date-time directly into the array as UTF-8 bytes, starting at
+     * the specified offset, without creating a {@code String} or using a charset encoder.
+     * Most formats only output ASCII characters, which are written as one byte each.
+     * The array is not altered if an error occurs.
+     *
+     * @param temporal  the temporal object to print, not null
+     * @param bytes  the array to print to, not null
+     * @param offset  the offset in the array to start printing at
+     * @return the number of bytes written
+     * @throws DateTimeException if an error occurs during formatting
+     * @throws IndexOutOfBoundsException if the offset is invalid or the array is too small
+     */
+    public int formatTo(TemporalAccessor temporal, byte[] bytes, int offset) {
+        Jdk8Methods.requireNonNull(temporal, "temporal");
+        Jdk8Methods.requireNonNull(bytes, "bytes");
+        StringBuilder buf = new StringBuilder(32);
+        printerParser.print(new DateTimePrintContext(temporal, this), buf);
+        int length = utf8Length(buf);
+        if (offset < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("Unable to write " + length + " bytes at offset " + offset +
+                    " in array of length " + bytes.length);
+        }
+        return writeUtf8(buf, bytes, offset);
+    }
+
+    /**
+     * Formats a date-time object into a {@code ByteBuffer} as UTF-8 using this formatter.
+     * <p>
+     * This formats the date-time directly into the buffer as UTF-8 bytes, starting at
+     * the position of the buffer, without creating a {@code String} or using a charset encoder.
+     * Most formats only output ASCII characters, which are written as one byte each.
+     * The position of the buffer is advanced by the number of bytes written.
+     * The buffer is not altered if an error occurs.
+     *
+     * @param temporal  the temporal object to print, not null
+     * @param buffer  the buffer to print to, not null
+     * @return the number of bytes written
+     * @throws DateTimeException if an error occurs during formatting
+     * @throws BufferOverflowException if the buffer has insufficient space remaining
+     * @throws ReadOnlyBufferException if the buffer is read-only
+     */
+    public int formatTo(TemporalAccessor temporal, ByteBuffer buffer) {
+        Jdk8Methods.requireNonNull(temporal, "temporal");
+        Jdk8Methods.requireNonNull(buffer, "buffer");
+        StringBuilder buf = new StringBuilder(32);
+        printerParser.print(new DateTimePrintContext(temporal, this), buf);
+        return writeUtf8(buf, buffer);
+    }
+
+    /**
+     * Formats an array of epoch-millisecond values into a {@code char} array using this formatter.
+     * <p>
+     * Each value is formatted as though by {@code format(Instant.ofEpochMilli(value).atZone(zone))},
+     * with the results written one after another into the array starting at the offset.
+     * The index after the end of each result is stored in the matching element of {@code ends},
+     * thus the result for value {@code i} ends at {@code ends[i]} and starts at the end of the
+     * previous result, or the offset for the first value.
+     * <p>
+     * This is intended for formatting a column of values, such as when exporting data.
+     * The offset of the zone is only looked up again once a value is outside the period
+     * between the transitions surrounding the previous value. The {@link #ISO_INSTANT},
+     * {@link #ISO_OFFSET_DATE_TIME}, {@link #ISO_LOCAL_DATE_TIME} and {@link #ISO_LOCAL_DATE}
+     * formatters print directly to the array. As such, sorted values are formatted fastest.
+     * <p>
+     * If an exception is thrown, the values before the failing value will have been written.
+     *
+     * @param epochMillis  the epoch-millisecond values to print, not null
+     * @param zone  the zone to print the values in, not null
+     * @param chars  the array to print to, not null
+     * @param offset  the offset in the array to start printing at
+     * @param ends  the array to store the end index of each result in, not null
+     * @return the index after the last character printed
+     * @throws DateTimeException if an error occurs during formatting
+     * @throws IndexOutOfBoundsException if the offset is invalid, the array is too small,
+     *  or the ends array is shorter than the values array
+     */
+    public int formatEpochMillis(long[] epochMillis, ZoneId zone, char[] chars, int offset, int[] ends) {
+        Jdk8Methods.requireNonNull(epochMillis, "epochMillis");
+        Jdk8Methods.requireNonNull(zone, "zone");
+        Jdk8Methods.requireNonNull(chars, "chars");
+        Jdk8Methods.requireNonNull(ends, "ends");
+        return new EpochBatchPrinter(this, zone).printTo(epochMillis, chars, offset, ends);
+    }
+
+    /**
+     * Formats an array of epoch-millisecond values into a {@code byte} array as UTF-8 using this formatter.
+     * <p>
+     * This behaves as {@link #formatEpochMillis(long[], ZoneId, char[], int, int[])}
+     * except that the results are written as UTF-8, with each end being a byte index.
+     * Most formats only output ASCII characters, which are written as one byte each.
+     *
+     * @param epochMillis  the epoch-millisecond values to print, not null
+     * @param zone  the zone to print the values in, not null
+     * @param bytes  the array to print to, not null
+     * @param offset  the offset in the array to start printing at
+     * @param ends  the array to store the end index of each result in, not null
+     * @return the index after the last byte written
+     * @throws DateTimeException if an error occurs during formatting
+     * @throws IndexOutOfBoundsException if the offset is invalid, the array is too small,
+     *  or the ends array is shorter than the values array
+     */
+    public int formatEpochMillis(long[] epochMillis, ZoneId zone, byte[] bytes, int offset, int[] ends) {
+        Jdk8Methods.requireNonNull(epochMillis, "epochMillis");
+        Jdk8Methods.requireNonNull(zone, "zone");
+        Jdk8Methods.requireNonNull(bytes, "bytes");
+        Jdk8Methods.requireNonNull(ends, "ends");
+        return new EpochBatchPrinter(this, zone).printTo(epochMillis, bytes, offset, ends);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the number of bytes needed to encode the characters as UTF-8.
+     *
+     * @param buf  the characters, not null
+     * @return the number of bytes
+     */
+    static int utf8Length(CharSequence buf) {
+        int length = buf.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char ch = buf.charAt(i);
+            if (ch >= 0x80) {
+                if (ch < 0x800) {
+                    bytes++;
+                } else if (ch < Character.MIN_SURROGATE || ch > Character.MAX_SURROGATE) {
+                    bytes += 2;
+                } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(buf.charAt(i + 1))) {
+                    bytes += 2;  // four bytes for the pair
+                    i++;
+                }  // else one byte for an unpaired surrogate
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes the characters to the array as UTF-8.
+     * <p>
+     * The array must have space for {@link #utf8Length(CharSequence)} bytes.
+     * Unpaired surrogates are written as '?', as per {@code String.getBytes}.
+     *
+     * @param buf  the characters, not null
+     * @param bytes  the array to write to, not null
+     * @param offset  the offset to write at
+     * @return the number of bytes written
+     */
+    static int writeUtf8(CharSequence buf, byte[] bytes, int offset) {
+        int length = buf.length();
+        int pos = offset;
+        for (int i = 0; i < length; i++) {
+            char ch = buf.charAt(i);
+            if (ch < 0x80) {
+                bytes[pos++] = (byte) ch;
+            } else if (ch < 0x800) {
+                bytes[pos++] = (byte) (0xC0 | (ch >> 6));
+                bytes[pos++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (ch >= Character.MIN_SURROGATE && ch <= Character.MAX_SURROGATE) {
+                if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(buf.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(ch, buf.charAt(++i));
+                    bytes[pos++] = (byte) (0xF0 | (cp >> 18));
+                    bytes[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                    bytes[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                    bytes[pos++] = (byte) (0x80 | (cp & 0x3F));
+                } else {
+                    bytes[pos++] = '?';
+                }
+            } else {
+                bytes[pos++] = (byte) (0xE0 | (ch >> 12));
+                bytes[pos++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | (ch & 0x3F));
+            }
+        }
+        return pos - offset;
+    }
+
+    /**
+     * Writes the characters to the buffer as UTF-8, advancing its position.
+     *
+     * @param buf  the characters, not null
+     * @param buffer  the buffer to write to, not null
+     * @return the number of bytes written
+     * @throws BufferOverflowException if the buffer has insufficient space remaining
+     */
+    static int writeUtf8(CharSequence buf, ByteBuffer buffer) {
+        int length = utf8Length(buf);
+        if (buffer.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferOverflowException();
+        }
+        int position = buffer.position();
+        if (buffer.hasArray()) {
+            writeUtf8(buf, buffer.array(), buffer.arrayOffset() + position);
+        } else if (length == buf.length()) {
+            for (int i = 0; i < length; i++) {
+                buffer.put(position + i, (byte) buf.charAt(i));
+            }
+        } else {
+            byte[] bytes = new byte[length];
+            writeUtf8(buf, bytes, 0);
+            buffer.put(bytes);
+            return length;
+        }
+        buffer.position(position + length);
+        return length;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Fully parses the text producing a temporal object.
@@ -1413,7 +1743,7 @@ public final class DateTimeFormatter {
     public TemporalAccessor parse(CharSequence text) {
         Jdk8Methods.requireNonNull(text, "text");
         try {
-            return parseToBuilder(text, null).resolve(resolverStyle, resolverFields);
+            return parseToResolvedBuilder(text);
         } catch (DateTimeParseException ex) {
             throw ex;
         } catch (RuntimeException ex) {
@@ -1465,6 +1795,82 @@ public final class DateTimeFormatter {
         }
     }
 
+    /**
+     * Parses and resolves the text using this formatter, returning null if the text
+     * cannot be parsed rather than throwing an exception.
+     * <p>
+     * This parses the text in the same way as {@link #parse(CharSequence, ParsePosition)},
+     * resolving the result and then querying it as per {@link #parse(CharSequence, TemporalQuery)}.
+     * The difference is that errors are returned using the error index of the
+     * {@code ParsePosition}, as per {@code java.text.Format}, instead of by creating
+     * a {@code DateTimeParseException}. This is useful where a significant proportion
+     * of the input is expected to be invalid.
+     * <p>
+     * The text will be parsed from the specified start {@code ParsePosition}.
+     * The entire length of the text does not have to be parsed, the {@code ParsePosition}
+     * will be updated with the index at the end of parsing.
+     * If the text cannot be parsed, null is returned, the index is unchanged and
+     * the error index is set to an index indicative of the error.
+     * If the parsed text cannot be resolved or converted to the requested type,
+     * null is returned, the index is unchanged and the error index is set to the start index.
+     * <p>
+     * Callers should check the error index rather than the result, as some queries
+     * may return null, such as {@link org.threeten.bp.temporal.TemporalQueries#zoneId()}.
+     *
+     * @param <T> the type of the parsed date-time
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from, updated with length parsed
+     *  and the index of any error, not null
+     * @param type  the type to extract, not null
+     * @return the parsed date-time, null if unable to parse the requested result
+     * @throws IndexOutOfBoundsException if the position is invalid
+     */
+    public <T> T parseResolved(CharSequence text, ParsePosition position, TemporalQuery<T> type) {
+        return parseResolved(new DateTimeParseContext(this), text, position, null, type);
+    }
+
+    /**
+     * Parses and resolves the text, returning null if the text cannot be parsed.
+     *
+     * @param <T> the type of the parsed date-time
+     * @param context  the context to parse into, not null
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from, updated with length parsed
+     *  and the index of any error, not null
+     * @param builder  the empty builder to resolve into, null to create one
+     * @param type  the type to extract, not null
+     * @return the parsed date-time, null if unable to parse the requested result
+     */
+    <T> T parseResolved(DateTimeParseContext context, CharSequence text, ParsePosition position,
+            DateTimeBuilder builder, TemporalQuery<T> type) {
+        Jdk8Methods.requireNonNull(text, "text");
+        Jdk8Methods.requireNonNull(position, "position");
+        Jdk8Methods.requireNonNull(type, "type");
+        int start = position.getIndex();
+        try {
+            if (start == 0) {
+                DateTimeBuilder fast = IsoFastParser.parse(this, text, builder);
+                if (fast != null) {
+                    T result = fast.build(type);
+                    position.setIndex(text.length());
+                    return result;
+                }
+            }
+            Parsed parsed = parseUnresolved0(context, text, position);
+            if (parsed == null || position.getErrorIndex() >= 0) {
+                return null;
+            }
+            builder = (builder != null ? parsed.toBuilder(builder) : parsed.toBuilder());
+            return builder.resolve(resolverStyle, resolverFields).build(type);
+        } catch (IndexOutOfBoundsException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            position.setIndex(start);
+            position.setErrorIndex(start);
+            return null;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Fully parses the text producing an object of the specified type.
@@ -1488,7 +1894,7 @@ public final class DateTimeFormatter {
         Jdk8Methods.requireNonNull(text, "text");
         Jdk8Methods.requireNonNull(type, "type");
         try {
-            DateTimeBuilder builder = parseToBuilder(text, null).resolve(resolverStyle, resolverFields);
+            DateTimeBuilder builder = parseToResolvedBuilder(text);
             return builder.build(type);
         } catch (DateTimeParseException ex) {
             throw ex;
@@ -1497,6 +1903,53 @@ public final class DateTimeFormatter {
         }
     }
 
+    /**
+     * Fully parses ASCII text held in a byte array producing an object of the specified type.
+     * <p>
+     * This behaves exactly as {@link #parse(CharSequence, TemporalQuery)} except that
+     * the text is read directly from the bytes without decoding them to a {@code String}.
+     * Each byte is treated as the character of the same value, thus the text must
+     * be encoded in ASCII, or a compatible encoding such as UTF-8 where only ASCII
+     * characters are used by the format.
+     * Only the range specified is parsed, and it must be parsed in full.
+     *
+     * @param <T> the type to extract
+     * @param bytes  the bytes to parse, not null
+     * @param offset  the index of the first byte to parse
+     * @param length  the number of bytes to parse
+     * @param type  the type to extract, not null
+     * @return the parsed date-time, not null
+     * @throws IndexOutOfBoundsException if the range is invalid
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    public <T> T parse(byte[] bytes, int offset, int length, TemporalQuery<T> type) {
+        Jdk8Methods.requireNonNull(bytes, "bytes");
+        return parse(new AsciiCharSequence(bytes, offset, length), type);
+    }
+
+    /**
+     * Fully parses ASCII text held in a byte buffer producing an object of the specified type.
+     * <p>
+     * This behaves exactly as {@link #parse(CharSequence, TemporalQuery)} except that
+     * the text is read directly from the buffer without decoding it to a {@code String}.
+     * Each byte is treated as the character of the same value, thus the text must
+     * be encoded in ASCII, or a compatible encoding such as UTF-8 where only ASCII
+     * characters are used by the format.
+     * The bytes between the position and limit of the buffer are parsed, and they
+     * must be parsed in full. The position of the buffer is not changed.
+     * Direct and memory-mapped buffers are read in place.
+     *
+     * @param <T> the type to extract
+     * @param buffer  the buffer to parse, not null
+     * @param type  the type to extract, not null
+     * @return the parsed date-time, not null
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    public <T> T parse(ByteBuffer buffer, TemporalQuery<T> type) {
+        Jdk8Methods.requireNonNull(buffer, "buffer");
+        return parse(new AsciiCharSequence(buffer), type);
+    }
+
     /**
      * Fully parses the text producing an object of one of the specified types.
      * <p>
@@ -1533,7 +1986,7 @@ public final class DateTimeFormatter {
             throw new IllegalArgumentException("At least two types must be specified");
         }
         try {
-            DateTimeBuilder builder = parseToBuilder(text, null).resolve(resolverStyle, resolverFields);
+            DateTimeBuilder builder = parseToResolvedBuilder(text);
             for (TemporalQuery<?> type : types) {
                 try {
                     return (TemporalAccessor) builder.build(type);
@@ -1549,7 +2002,217 @@ public final class DateTimeFormatter {
         }
     }
 
-    private DateTimeParseException createError(CharSequence text, RuntimeException ex) {
+    //-----------------------------------------------------------------------
+    /**
+     * Fully parses the text producing an epoch-day.
+     * <p>
+     * This parses the entire text, resolving it to a date and returning the
+     * {@link ChronoField#EPOCH_DAY epoch-day} of that date.
+     * The result is the same as {@code parse(text, LocalDate.FROM).toEpochDay()}.
+     * <p>
+     * Where the parsed fields are a simple ISO year, month and day, optionally with
+     * a time and offset, the epoch-day is calculated directly without creating
+     * a {@code LocalDate}. Other parsed fields are resolved in the normal way.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed epoch-day
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    public long parseEpochDay(CharSequence text) {
+        return parseEpoch(new DateTimeParseContext(this), text, new ParsePosition(0), null, ChronoUnit.DAYS);
+    }
+
+    /**
+     * Fully parses the text producing an epoch-second.
+     * <p>
+     * This parses the entire text, resolving it to an instant and returning the
+     * number of seconds from the epoch of 1970-01-01T00:00:00Z.
+     * The result is the same as {@code parse(text, Instant.FROM).getEpochSecond()}.
+     * As such, the text must contain a date, time and offset, or the formatter must
+     * have an {@linkplain #withZone(ZoneId) override zone}.
+     * <p>
+     * Where the parsed fields are a simple ISO date, time and offset, or an instant,
+     * the epoch-second is calculated directly without creating an {@code Instant}.
+     * Other parsed fields are resolved in the normal way.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed epoch-second
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    public long parseEpochSecond(CharSequence text) {
+        return parseEpoch(new DateTimeParseContext(this), text, new ParsePosition(0), null, ChronoUnit.SECONDS);
+    }
+
+    /**
+     * Fully parses the text producing an epoch-milli.
+     * <p>
+     * This parses the entire text, resolving it to an instant and returning the
+     * number of milliseconds from the epoch of 1970-01-01T00:00:00Z.
+     * The result is the same as {@code parse(text, Instant.FROM).toEpochMilli()}.
+     * As such, the text must contain a date, time and offset, or the formatter must
+     * have an {@linkplain #withZone(ZoneId) override zone}.
+     * <p>
+     * Where the parsed fields are a simple ISO date, time and offset, or an instant,
+     * the epoch-milli is calculated directly without creating an {@code Instant}.
+     * Other parsed fields are resolved in the normal way.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed epoch-milli
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    public long parseEpochMilli(CharSequence text) {
+        return parseEpoch(new DateTimeParseContext(this), text, new ParsePosition(0), null, ChronoUnit.MILLIS);
+    }
+
+    /**
+     * Parses a list of texts producing an array of epoch values, using the executor
+     * to parse large lists in parallel.
+     * <p>
+     * This behaves as {@link DateTimeParser#parseEpochs(List, ChronoUnit, long[], BitSet)}.
+     * Where the list is large, it is split into ranges that are parsed by tasks
+     * submitted to the executor, each using its own {@link DateTimeParser}.
+     * This method blocks until all the tasks have completed.
+     * Small lists are parsed on the calling thread.
+     *
+     * @param texts  the texts to parse, not null
+     * @param unit  the unit of the results, one of {@code DAYS}, {@code SECONDS} or {@code MILLIS}, not null
+     * @param results  the array to store the results in, not null
+     * @param failures  the bit set to record failures in, not null
+     * @param executor  the executor to run the parsing tasks, not null
+     * @return the number of texts that could not be parsed
+     * @throws IllegalArgumentException if the unit is not supported
+     * @throws IndexOutOfBoundsException if the results array is shorter than the list
+     * @throws DateTimeException if interrupted while waiting for the tasks
+     */
+    public int parseEpochs(List<? extends CharSequence> texts, ChronoUnit unit, long[] results, BitSet failures, ExecutorService executor) {
+        Jdk8Methods.requireNonNull(texts, "texts");
+        Jdk8Methods.requireNonNull(unit, "unit");
+        Jdk8Methods.requireNonNull(results, "results");
+        Jdk8Methods.requireNonNull(failures, "failures");
+        Jdk8Methods.requireNonNull(executor, "executor");
+        return new EpochBatchParser(texts, unit, results).parse(this, failures, executor);
+    }
+
+    /**
+     * Parses ASCII records held in a byte array producing an array of epoch values,
+     * using the executor to parse large arrays in parallel.
+     * <p>
+     * This behaves as {@link DateTimeParser#parseEpochs(byte[], int, int[], ChronoUnit, long[], BitSet)},
+     * splitting the records between tasks as per
+     * {@link #parseEpochs(List, ChronoUnit, long[], BitSet, ExecutorService)}.
+     *
+     * @param bytes  the bytes to parse, not null
+     * @param offset  the index of the first byte of the first record
+     * @param ends  the index after the end of each record, not null
+     * @param unit  the unit of the results, one of {@code DAYS}, {@code SECONDS} or {@code MILLIS}, not null
+     * @param results  the array to store the results in, not null
+     * @param failures  the bit set to record failures in, not null
+     * @param executor  the executor to run the parsing tasks, not null
+     * @return the number of records that could not be parsed
+     * @throws IllegalArgumentException if the unit is not supported
+     * @throws IndexOutOfBoundsException if a record is outside the array,
+     *  or the results array is shorter than the ends array
+     * @throws DateTimeException if interrupted while waiting for the tasks
+     */
+    public int parseEpochs(byte[] bytes, int offset, int[] ends, ChronoUnit unit, long[] results, BitSet failures, ExecutorService executor) {
+        Jdk8Methods.requireNonNull(bytes, "bytes");
+        Jdk8Methods.requireNonNull(ends, "ends");
+        Jdk8Methods.requireNonNull(unit, "unit");
+        Jdk8Methods.requireNonNull(results, "results");
+        Jdk8Methods.requireNonNull(failures, "failures");
+        Jdk8Methods.requireNonNull(executor, "executor");
+        return new EpochBatchParser(bytes, offset, ends, unit, results).parse(this, failures, executor);
+    }
+
+    /**
+     * Fully parses the text producing an epoch value.
+     *
+     * @param context  the context to parse into, not null
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from, not null
+     * @param builder  the empty builder to resolve into, null to create one
+     * @param unit  the unit of the result, one of {@code DAYS}, {@code SECONDS} or {@code MILLIS}
+     * @return the parsed epoch value
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    long parseEpoch(DateTimeParseContext context, CharSequence text, ParsePosition position, DateTimeBuilder builder, ChronoUnit unit) {
+        Jdk8Methods.requireNonNull(text, "text");
+        try {
+            Parsed result = parseUnresolved0(context, text, position);
+            checkParsed(text, position, result, true);
+            return resolveEpoch(context, result, builder, unit);
+        } catch (DateTimeParseException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw createError(text, ex);
+        }
+    }
+
+    /**
+     * Fully parses the text producing an epoch value, without throwing an exception if unable to parse.
+     * <p>
+     * This behaves as {@link #parseEpoch(DateTimeParseContext, CharSequence, ParsePosition, DateTimeBuilder, ChronoUnit)}
+     * except that failure is reported by setting the error index of the position,
+     * as per {@link #parseResolved(CharSequence, ParsePosition, TemporalQuery)}.
+     * This avoids the cost of creating an exception when many texts are expected to fail.
+     *
+     * @param context  the context to parse into, not null
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from, updated with length parsed
+     *  and the index of any error, not null
+     * @param builder  the empty builder to resolve into, null to create one
+     * @param unit  the unit of the result, one of {@code DAYS}, {@code SECONDS} or {@code MILLIS}
+     * @return the parsed epoch value, zero if unable to parse, as indicated by the error index
+     */
+    long parseEpochResolved(DateTimeParseContext context, CharSequence text, ParsePosition position,
+            DateTimeBuilder builder, ChronoUnit unit) {
+        Jdk8Methods.requireNonNull(text, "text");
+        int start = position.getIndex();
+        try {
+            Parsed result = parseUnresolved0(context, text, position);
+            if (result == null || position.getErrorIndex() >= 0) {
+                return 0;
+            }
+            if (position.getIndex() < text.length()) {
+                position.setErrorIndex(position.getIndex());
+                return 0;
+            }
+            return resolveEpoch(context, result, builder, unit);
+        } catch (RuntimeException ex) {
+            position.setIndex(start);
+            position.setErrorIndex(start);
+            return 0;
+        }
+    }
+
+    /**
+     * Resolves the parsed text to an epoch value.
+     *
+     * @param context  the context that was parsed into, not null
+     * @param result  the parsed text, not null
+     * @param builder  the empty builder to resolve into, null to create one
+     * @param unit  the unit of the result, one of {@code DAYS}, {@code SECONDS} or {@code MILLIS}
+     * @return the epoch value
+     * @throws DateTimeException if unable to resolve the epoch value
+     */
+    private long resolveEpoch(DateTimeParseContext context, Parsed result, DateTimeBuilder builder, ChronoUnit unit) {
+        if (resolverFields == null && result.leapSecond == false && result.excessDays.isZero() &&
+                context.getEffectiveChronology() == IsoChronology.INSTANCE) {
+            long epoch = EpochResolver.resolve(result.fieldValues, (result.zone != null ? result.zone : zone), resolverStyle, unit);
+            if (epoch != EpochResolver.UNRESOLVED) {
+                return epoch;
+            }
+        }
+        builder = (builder != null ? result.toBuilder(builder) : result.toBuilder());
+        builder.resolve(resolverStyle, resolverFields);
+        if (unit == ChronoUnit.DAYS) {
+            return builder.build(LocalDate.FROM).toEpochDay();
+        }
+        Instant instant = builder.build(Instant.FROM);
+        return (unit == ChronoUnit.SECONDS ? instant.getEpochSecond() : instant.toEpochMilli());
+    }
+
+    DateTimeParseException createError(CharSequence text, RuntimeException ex) {
         String abbr = "";
         if (text.length() > 64) {
             abbr = text.subSequence(0, 64).toString() + "...";
@@ -1560,6 +2223,24 @@ public final class DateTimeFormatter {
     }
 
     //-----------------------------------------------------------------------
+    /**
+     * Fully parses and resolves the text to a builder.
+     * <p>
+     * The common forms of the ISO constants are recognized directly by
+     * {@link IsoFastParser}, with all other text parsed by the printer-parsers.
+     *
+     * @param text  the text to parse, not null
+     * @return the resolved builder, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    private DateTimeBuilder parseToResolvedBuilder(CharSequence text) {
+        DateTimeBuilder builder = IsoFastParser.parse(this, text, null);
+        if (builder != null) {
+            return builder;
+        }
+        return parseToBuilder(text, null).resolve(resolverStyle, resolverFields);
+    }
+
     /**
      * Parses the text to a builder.
      * <p>
@@ -1575,8 +2256,22 @@ public final class DateTimeFormatter {
      */
     private DateTimeBuilder parseToBuilder(final CharSequence text, final ParsePosition position) {
         ParsePosition pos = (position != null ? position : new ParsePosition(0));
-        Parsed result = parseUnresolved0(text, pos);
-        if (result == null || pos.getErrorIndex() >= 0 || (position == null && pos.getIndex() < text.length())) {
+        Parsed result = parseUnresolved0(new DateTimeParseContext(this), text, pos);
+        checkParsed(text, pos, result, position == null);
+        return result.toBuilder();
+    }
+
+    /**
+     * Checks the result of parsing, throwing an exception if it failed.
+     *
+     * @param text  the text that was parsed, not null
+     * @param pos  the position after parsing, not null
+     * @param result  the result of parsing, null if the parse resulted in an error
+     * @param whole  whether the whole text must have been parsed
+     * @throws DateTimeParseException if the parse failed
+     */
+    void checkParsed(CharSequence text, ParsePosition pos, Parsed result, boolean whole) {
+        if (result == null || pos.getErrorIndex() >= 0 || (whole && pos.getIndex() < text.length())) {
             String abbr = "";
             if (text.length() > 64) {
                 abbr = text.subSequence(0, 64).toString() + "...";
@@ -1591,7 +2286,6 @@ public final class DateTimeFormatter {
                         pos.getIndex(), text, pos.getIndex());
             }
         }
-        return result.toBuilder();
     }
 
     /**
@@ -1638,9 +2332,21 @@ public final class DateTimeFormatter {
     }
 
     private Parsed parseUnresolved0(CharSequence text, ParsePosition position) {
+        return parseUnresolved0(new DateTimeParseContext(this), text, position);
+    }
+
+    /**
+     * Parses the text into the specified context, without resolving the result.
+     *
+     * @param context  the context to parse into, not null
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from, updated with length parsed
+     *  and the index of any error, not null
+     * @return the parsed text, null if the parse results in an error
+     */
+    Parsed parseUnresolved0(DateTimeParseContext context, CharSequence text, ParsePosition position) {
         Jdk8Methods.requireNonNull(text, "text");
         Jdk8Methods.requireNonNull(position, "position");
-        DateTimeParseContext context = new DateTimeParseContext(this);
         int pos = position.getIndex();
         pos = printerParser.parse(context, text, pos);
         if (pos < 0) {
@@ -1651,6 +2357,23 @@ public final class DateTimeFormatter {
         return context.toParsed();
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a new parser that reuses its internal state between parses.
+     * <p>
+     * Parsing using this formatter creates a number of temporary objects for each parse.
+     * The returned parser instead resets and reuses these objects, which is useful
+     * when parsing a large number of values in a loop.
+     * The results are the same as {@link #parse(CharSequence, TemporalQuery)}.
+     * <p>
+     * The returned parser is not thread-safe and must only be used from a single thread.
+     *
+     * @return a new parser for this formatter, not null
+     */
+    public DateTimeParser newParser() {
+        return new DateTimeParser(this);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns the formatter as a composite printer parser.
@@ -48,6 +48,7 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -61,7 +62,8 @@ import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TimeZone;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.Instant;
@@ -1961,6 +1963,10 @@ public final class DateTimeFormatterBuilder {
     static final class CompositePrinterParser implements DateTimePrinterParser {
         private final DateTimePrinterParser[] printerParsers;
         private final boolean optional;
+        /**
+         * The compiled printer, null if the printer-parsers cannot be compiled.
+         */
+        private final FixedWidthPrinter compiled;
 
         CompositePrinterParser(List<DateTimePrinterParser> printerParsers, boolean optional) {
             this(printerParsers.toArray(new DateTimePrinterParser[printerParsers.size()]), optional);
@@ -1969,6 +1975,7 @@ public final class DateTimeFormatterBuilder {
         CompositePrinterParser(DateTimePrinterParser[] printerParsers, boolean optional) {
             this.printerParsers = printerParsers;
             this.optional = optional;
+            this.compiled = (optional ? null : FixedWidthPrinter.compile(printerParsers));
         }
 
         /**
@@ -1987,6 +1994,12 @@ public final class DateTimeFormatterBuilder {
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
             int length = buf.length();
+            if (compiled != null && DecimalStyle.STANDARD.equals(context.getSymbols())) {
+                if (compiled.print(context, buf) == false) {
+                    buf.setLength(length);  // reset buffer
+                }
+                return true;
+            }
             if (optional) {
                 context.startOptional();
             }
@@ -2044,6 +2057,331 @@ public final class DateTimeFormatterBuilder {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Compiled printer for formatters consisting only of literals and numbers.
+     * <p>
+     * Patterns such as 'yyyy-MM-dd'T'HH:mm:ss.SSS' are flattened when the formatter
+     * is created, with the digits of each number then output directly from the
+     * primitive field value, skipping the sign and width handling of {@link NumberPrinterParser}.
+     * It is only used with {@link DecimalStyle#STANDARD}.
+     * Any value that is not simple to print, such as one that is negative or too wide,
+     * is passed to the original printer so that the output and errors are unchanged.
+     */
+    static final class FixedWidthPrinter {
+        private final DateTimePrinterParser[] printers;
+        /**
+         * The number printers, null where the printer is a literal or fraction.
+         */
+        private final NumberPrinterParser[] numbers;
+
+        private FixedWidthPrinter(DateTimePrinterParser[] printers, NumberPrinterParser[] numbers) {
+            this.printers = printers;
+            this.numbers = numbers;
+        }
+
+        /**
+         * Compiles the printer-parsers if possible.
+         *
+         * @param printerParsers  the printer-parsers to compile, not null
+         * @return the compiled printer, null if the printer-parsers cannot be compiled
+         */
+        static FixedWidthPrinter compile(DateTimePrinterParser[] printerParsers) {
+            List<DateTimePrinterParser> flattened = new ArrayList<DateTimePrinterParser>();
+            if (flatten(printerParsers, flattened) == false) {
+                return null;
+            }
+            int size = flattened.size();
+            NumberPrinterParser[] numbers = new NumberPrinterParser[size];
+            boolean numeric = false;
+            for (int i = 0; i < size; i++) {
+                DateTimePrinterParser pp = flattened.get(i);
+                if (pp instanceof NumberPrinterParser) {
+                    numbers[i] = (NumberPrinterParser) pp;
+                    numeric = true;
+                } else if (pp instanceof FractionPrinterParser) {
+                    numeric = true;
+                }
+            }
+            if (numeric == false) {
+                return null;
+            }
+            return new FixedWidthPrinter(flattened.toArray(new DateTimePrinterParser[size]), numbers);
+        }
+
+        private static boolean flatten(DateTimePrinterParser[] printerParsers, List<DateTimePrinterParser> flattened) {
+            for (DateTimePrinterParser pp : printerParsers) {
+                if (pp instanceof CompositePrinterParser) {
+                    CompositePrinterParser cpp = (CompositePrinterParser) pp;
+                    if (cpp.optional || flatten(cpp.printerParsers, flattened) == false) {
+                        return false;
+                    }
+                } else if (pp instanceof SettingsParser || pp instanceof DefaultingParser) {
+                    // nothing printed
+                } else if (pp instanceof CharLiteralPrinterParser || pp instanceof StringLiteralPrinterParser ||
+                        pp instanceof FractionPrinterParser) {
+                    flattened.add(pp);
+                } else if (pp.getClass() == NumberPrinterParser.class) {
+                    if (((NumberPrinterParser) pp).signStyle == SignStyle.ALWAYS) {
+                        return false;
+                    }
+                    flattened.add(pp);
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Prints the date-time object to the buffer.
+         *
+         * @param context  the context to print using, not null
+         * @param buf  the buffer to append to, not null
+         * @return false if unable to query a value from the date-time, true otherwise
+         * @throws DateTimeException if the date-time cannot be printed successfully
+         */
+        boolean print(DateTimePrintContext context, StringBuilder buf) {
+            for (int i = 0; i < printers.length; i++) {
+                NumberPrinterParser number = numbers[i];
+                if (number == null || printNumber(context, number, buf) == false) {
+                    if (printers[i].print(context, buf) == false) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static boolean printNumber(DateTimePrintContext context, NumberPrinterParser pp, StringBuilder buf) {
+            long value = context.getLong(pp.field);
+            if (value < 0) {
+                return false;  // includes NO_VALUE
+            }
+            int digits = NumberPrinterParser.countDigits(value);
+            if (digits > pp.maxWidth || (pp.signStyle == SignStyle.EXCEEDS_PAD && digits > pp.minWidth)) {
+                return false;
+            }
+            NumberPrinterParser.appendDigits(buf, value, Math.max(digits, pp.minWidth), '0');
+            return true;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Quick check of whether text could be parsed by a formatter.
+     * <p>
+     * The leading characters and minimum length of the text accepted by a formatter
+     * are derived from its printer-parsers, allowing text to be rejected without parsing.
+     * The check is conservative, such that any text the formatter could parse is accepted.
+     * Only ASCII leading characters are tracked, any other leading character is accepted.
+     */
+    static final class ParseFilter {
+        /**
+         * The possible ASCII leading characters, null if any character is possible.
+         */
+        private final boolean[] leadingChars;
+        /**
+         * The minimum length of the parsed text.
+         */
+        private final int minLength;
+
+        private ParseFilter(boolean[] leadingChars, int minLength) {
+            this.leadingChars = leadingChars;
+            this.minLength = minLength;
+        }
+
+        /**
+         * Creates the filter for the printer-parser of a formatter.
+         *
+         * @param printerParser  the printer-parser, not null
+         * @param symbols  the symbols used to parse, not null
+         * @return the filter, not null
+         */
+        static ParseFilter of(CompositePrinterParser printerParser, DecimalStyle symbols) {
+            List<DateTimePrinterParser> flattened = new ArrayList<DateTimePrinterParser>();
+            flatten(printerParser.printerParsers, flattened);
+            boolean[] leadingChars = null;
+            boolean caseSensitive = true;
+            boolean strict = true;
+            int index = 0;
+            int size = flattened.size();
+            for ( ; index < size; index++) {
+                DateTimePrinterParser pp = flattened.get(index);
+                if (pp == SettingsParser.SENSITIVE || pp == SettingsParser.INSENSITIVE) {
+                    caseSensitive = (pp == SettingsParser.SENSITIVE);
+                } else if (pp == SettingsParser.STRICT || pp == SettingsParser.LENIENT) {
+                    strict = (pp == SettingsParser.STRICT);
+                } else if (pp instanceof SettingsParser || pp instanceof DefaultingParser) {
+                    // nothing parsed
+                } else if (pp instanceof StringLiteralPrinterParser && ((StringLiteralPrinterParser) pp).literal.length() == 0) {
+                    // nothing parsed
+                } else {
+                    leadingChars = leadingChars(pp, symbols, caseSensitive, strict);
+                    break;
+                }
+            }
+            int minLength = 0;
+            strict = true;
+            for (DateTimePrinterParser pp : flattened) {
+                if (pp == SettingsParser.STRICT || pp == SettingsParser.LENIENT) {
+                    strict = (pp == SettingsParser.STRICT);
+                } else {
+                    minLength += minLength(pp, strict);
+                    if (containsLenient(pp)) {
+                        // the setting outlasts an optional section, so may apply from here on
+                        strict = false;
+                    }
+                }
+            }
+            return new ParseFilter(leadingChars, minLength);
+        }
+
+        private static boolean containsLenient(DateTimePrinterParser pp) {
+            if (pp == SettingsParser.LENIENT) {
+                return true;
+            } else if (pp instanceof CompositePrinterParser) {
+                for (DateTimePrinterParser child : ((CompositePrinterParser) pp).printerParsers) {
+                    if (containsLenient(child)) {
+                        return true;
+                    }
+                }
+            } else if (pp instanceof PadPrinterParserDecorator) {
+                return containsLenient(((PadPrinterParserDecorator) pp).printerParser);
+            }
+            return false;
+        }
+
+        private static void flatten(DateTimePrinterParser[] printerParsers, List<DateTimePrinterParser> flattened) {
+            for (DateTimePrinterParser pp : printerParsers) {
+                if (pp instanceof CompositePrinterParser && ((CompositePrinterParser) pp).optional == false) {
+                    flatten(((CompositePrinterParser) pp).printerParsers, flattened);
+                } else {
+                    flattened.add(pp);
+                }
+            }
+        }
+
+        private static boolean[] leadingChars(
+                DateTimePrinterParser pp, DecimalStyle symbols, boolean caseSensitive, boolean strict) {
+            boolean[] chars = new boolean[128];
+            if (pp instanceof CharLiteralPrinterParser) {
+                return (addChar(chars, ((CharLiteralPrinterParser) pp).literal, caseSensitive) ? chars : null);
+            } else if (pp instanceof StringLiteralPrinterParser) {
+                return (addChar(chars, ((StringLiteralPrinterParser) pp).literal.charAt(0), caseSensitive) ? chars : null);
+            } else if (pp instanceof NumberPrinterParser) {
+                return (addDigits(chars, symbols) &&
+                        addChar(chars, symbols.getPositiveSign(), true) &&
+                        addChar(chars, symbols.getNegativeSign(), true) ? chars : null);
+            } else if (pp instanceof FractionPrinterParser) {
+                FractionPrinterParser fpp = (FractionPrinterParser) pp;
+                if (fpp.minWidth == 0 || strict == false) {
+                    return null;  // may parse nothing, as lenient parsing has no minimum width
+                }
+                if (fpp.decimalPoint) {
+                    return (addChar(chars, symbols.getDecimalSeparator(), true) ? chars : null);
+                }
+                return (addDigits(chars, symbols) ? chars : null);
+            }
+            return null;
+        }
+
+        private static boolean addDigits(boolean[] chars, DecimalStyle symbols) {
+            for (int i = 0; i < 10; i++) {
+                if (addChar(chars, (char) (symbols.getZeroDigit() + i), true) == false) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean addChar(boolean[] chars, char ch, boolean caseSensitive) {
+            if (caseSensitive) {
+                if (ch >= chars.length) {
+                    return false;
+                }
+                chars[ch] = true;
+                return true;
+            }
+            // the parser also compares upper and lower case forms
+            char upper = Character.toUpperCase(ch);
+            char lower = Character.toLowerCase(ch);
+            if (ch >= chars.length || upper >= chars.length || lower >= chars.length) {
+                return false;
+            }
+            chars[ch] = true;
+            chars[upper] = true;
+            chars[lower] = true;
+            return true;
+        }
+
+        private static int minLength(DateTimePrinterParser pp, boolean strict) {
+            if (pp instanceof CharLiteralPrinterParser) {
+                return 1;
+            } else if (pp instanceof StringLiteralPrinterParser) {
+                return ((StringLiteralPrinterParser) pp).literal.length();
+            } else if (pp instanceof NumberPrinterParser) {
+                return 1;
+            } else if (pp instanceof FractionPrinterParser) {
+                FractionPrinterParser fpp = (FractionPrinterParser) pp;
+                return (fpp.minWidth > 0 && strict ? fpp.minWidth + (fpp.decimalPoint ? 1 : 0) : 0);
+            }
+            return 0;
+        }
+
+        /**
+         * Checks whether the text from the specified position could be parsed.
+         *
+         * @param text  the text to check, not null
+         * @param position  the position to check from, within the text
+         * @return false if the text definitely cannot be parsed
+         */
+        boolean accepts(CharSequence text, int position) {
+            if (text.length() - position < minLength) {
+                return false;
+            }
+            if (leadingChars == null || position == text.length()) {
+                return true;
+            }
+            char ch = text.charAt(position);
+            return ch >= leadingChars.length || leadingChars[ch];
+        }
+
+        /**
+         * Checks whether text starting with the specified character could be parsed.
+         *
+         * @param ch  the ASCII character to check
+         * @return false if the text definitely cannot be parsed
+         */
+        boolean acceptsLeading(char ch) {
+            return leadingChars == null || leadingChars[ch];
+        }
+
+        /**
+         * Gets the minimum length of the parsed text.
+         *
+         * @return the minimum length
+         */
+        int getMinLength() {
+            return minLength;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder buf = new StringBuilder("ParseFilter[");
+            if (leadingChars != null) {
+                for (int i = 0; i < leadingChars.length; i++) {
+                    if (leadingChars[i]) {
+                        buf.append((char) i);
+                    }
+                }
+            } else {
+                buf.append('*');
+            }
+            return buf.append(',').append(minLength).append(']').toString();
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Pads the output to a fixed width.
@@ -2283,6 +2621,28 @@ public final class DateTimeFormatterBuilder {
             100000000,
             1000000000,
         };
+        /**
+         * Array of 10 to the power of n for all the digits of a long.
+         */
+        static final long[] POWERS_OF_TEN = new long[19];
+        /**
+         * The tens digit of each value from 0 to 99.
+         */
+        private static final byte[] DIGIT_TENS = new byte[100];
+        /**
+         * The units digit of each value from 0 to 99.
+         */
+        private static final byte[] DIGIT_ONES = new byte[100];
+        static {
+            POWERS_OF_TEN[0] = 1;
+            for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+                POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+            }
+            for (int i = 0; i < 100; i++) {
+                DIGIT_TENS[i] = (byte) (i / 10);
+                DIGIT_ONES[i] = (byte) (i % 10);
+            }
+        }
 
         final TemporalField field;
         final int minWidth;
@@ -2350,19 +2710,18 @@ public final class DateTimeFormatterBuilder {
 
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
-            Long valueLong = context.getValue(field);
-            if (valueLong == null) {
+            long value = context.getLong(field);
+            if (value == DateTimePrintContext.NO_VALUE && context.getValue(field) == null) {
                 return false;
             }
-            long value = getValue(context, valueLong);
+            value = getValue(context, value);
             DecimalStyle symbols = context.getSymbols();
-            String str = (value == Long.MIN_VALUE ? "9223372036854775808" : Long.toString(Math.abs(value)));
-            if (str.length() > maxWidth) {
+            int digits = (value == Long.MIN_VALUE ? 19 : countDigits(Math.abs(value)));
+            if (digits > maxWidth) {
                 throw new DateTimeException("Field " + field +
                     " cannot be printed as the value " + value +
                     " exceeds the maximum print width of " + maxWidth);
             }
-            str = symbols.convertNumberToI18N(str);
 
             if (value >= 0) {
                 switch (signStyle) {
@@ -2388,13 +2747,72 @@ public final class DateTimeFormatterBuilder {
                             " cannot be negative according to the SignStyle");
                 }
             }
-            for (int i = 0; i < minWidth - str.length(); i++) {
-                buf.append(symbols.getZeroDigit());
+            if (value == Long.MIN_VALUE) {
+                for (int i = 0; i < minWidth - digits; i++) {
+                    buf.append(symbols.getZeroDigit());
+                }
+                buf.append(symbols.convertNumberToI18N("9223372036854775808"));
+            } else {
+                appendDigits(buf, Math.abs(value), Math.max(digits, minWidth), symbols.getZeroDigit());
             }
-            buf.append(str);
             return true;
         }
 
+        /**
+         * Counts the number of decimal digits in a value.
+         *
+         * @param value  the value, zero or greater
+         * @return the number of digits, from 1 to 19
+         */
+        static int countDigits(long value) {
+            int digits = 1;
+            while (digits < 19 && value >= POWERS_OF_TEN[digits]) {
+                digits++;
+            }
+            return digits;
+        }
+
+        /**
+         * Appends the digits of a value without creating a string.
+         * <p>
+         * The digits are written from the right, two at a time using a lookup table,
+         * with leading zeros added up to the number of digits requested.
+         *
+         * @param buf  the buffer to append to, not null
+         * @param value  the value, zero or greater
+         * @param digits  the number of digits to output, at least the number in the value
+         * @param zeroDigit  the character representing zero
+         */
+        static void appendDigits(StringBuilder buf, long value, int digits, char zeroDigit) {
+            int start = buf.length();
+            int pos = start + digits;
+            buf.setLength(pos);
+            while (value > Integer.MAX_VALUE) {
+                long quotient = value / 100;
+                int pair = (int) (value - quotient * 100);
+                buf.setCharAt(--pos, (char) (zeroDigit + DIGIT_ONES[pair]));
+                buf.setCharAt(--pos, (char) (zeroDigit + DIGIT_TENS[pair]));
+                value = quotient;
+            }
+            int remaining = (int) value;
+            while (remaining >= 100) {
+                int quotient = remaining / 100;
+                int pair = remaining - quotient * 100;
+                buf.setCharAt(--pos, (char) (zeroDigit + DIGIT_ONES[pair]));
+                buf.setCharAt(--pos, (char) (zeroDigit + DIGIT_TENS[pair]));
+                remaining = quotient;
+            }
+            if (pos > start) {
+                buf.setCharAt(--pos, (char) (zeroDigit + DIGIT_ONES[remaining]));
+                if (remaining >= 10) {
+                    buf.setCharAt(--pos, (char) (zeroDigit + DIGIT_TENS[remaining]));
+                }
+            }
+            while (pos > start) {
+                buf.setCharAt(--pos, zeroDigit);
+            }
+        }
+
         /**
          * Gets the value to output.
          *
@@ -2662,6 +3080,15 @@ public final class DateTimeFormatterBuilder {
         private final int minWidth;
         private final int maxWidth;
         private final boolean decimalPoint;
+        /**
+         * The number of decimal digits in the field range, -1 if not a power of ten.
+         */
+        private final int rangeDigits;
+        /**
+         * The number of values in the field range, -1 if too large to calculate
+         * nine digits of the fraction using a {@code long}.
+         */
+        private final long rangeSize;
 
         /**
          * Constructor.
@@ -2690,15 +3117,62 @@ public final class DateTimeFormatterBuilder {
             this.minWidth = minWidth;
             this.maxWidth = maxWidth;
             this.decimalPoint = decimalPoint;
+            this.rangeDigits = rangeDigits(field.range());
+            this.rangeSize = rangeSize(field.range());
+        }
+
+        /**
+         * Gets the number of decimal digits in a range, such as 9 for nano-of-second.
+         *
+         * @param range  the range of the field, not null
+         * @return the number of digits, -1 if the range is not from zero to a power of ten
+         */
+        private static int rangeDigits(ValueRange range) {
+            if (range.getMinimum() != 0) {
+                return -1;
+            }
+            for (int i = 1; i <= 9; i++) {
+                if (range.getMaximum() + 1 == NumberPrinterParser.POWERS_OF_TEN[i]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Gets the number of values in a range, where small enough to calculate a fraction.
+         *
+         * @param range  the range of the field, not null
+         * @return the number of values, -1 if multiplying by 10^9 could overflow a {@code long}
+         */
+        private static long rangeSize(ValueRange range) {
+            long span = range.getMaximum() - range.getMinimum();
+            if (span < 0 || span >= Long.MAX_VALUE / NumberPrinterParser.POWERS_OF_TEN[9]) {
+                return -1;
+            }
+            return span + 1;
         }
 
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
-            Long value = context.getValue(field);
-            if (value == null) {
+            long value = context.getLong(field);
+            if (value == DateTimePrintContext.NO_VALUE && context.getValue(field) == null) {
                 return false;
             }
             DecimalStyle symbols = context.getSymbols();
+            if (rangeDigits > 0) {
+                field.range().checkValidValue(value, field);
+                printDigits(value, rangeDigits, symbols, buf);
+                return true;
+            }
+            if (rangeSize > 0) {
+                // nine digits of the fraction, rounded down as per the BigDecimal calculation
+                ValueRange range = field.range();
+                range.checkValidValue(value, field);
+                long fraction = (value - range.getMinimum()) * NumberPrinterParser.POWERS_OF_TEN[9] / rangeSize;
+                printDigits(fraction, 9, symbols, buf);
+                return true;
+            }
             BigDecimal fraction = convertToFraction(value);
             if (fraction.scale() == 0) {  // scale is zero if value is zero
                 if (minWidth > 0) {
@@ -2722,6 +3196,42 @@ public final class DateTimeFormatterBuilder {
             return true;
         }
 
+        /**
+         * Prints the digits of a fraction held as an integer with a fixed number of digits.
+         * <p>
+         * This produces the same output as the {@code BigDecimal} calculation.
+         *
+         * @param value  the digits of the fraction, from zero to 10^rangeDigits exclusive
+         * @param rangeDigits  the number of digits in the fraction, from 1 to 9
+         * @param symbols  the symbols to use, not null
+         * @param buf  the buffer to append to, not null
+         */
+        private void printDigits(long value, int rangeDigits, DecimalStyle symbols, StringBuilder buf) {
+            int scale = rangeDigits;
+            long stripped = value;
+            while (scale > 0 && stripped % 10 == 0) {
+                stripped /= 10;
+                scale--;
+            }
+            int outputScale = (value == 0 ? minWidth : Math.min(Math.max(scale, minWidth), maxWidth));
+            if (outputScale == 0) {
+                return;
+            }
+            if (decimalPoint) {
+                buf.append(symbols.getDecimalSeparator());
+            }
+            char zeroDigit = symbols.getZeroDigit();
+            if (outputScale <= rangeDigits) {
+                long truncated = value / NumberPrinterParser.POWERS_OF_TEN[rangeDigits - outputScale];
+                NumberPrinterParser.appendDigits(buf, truncated, outputScale, zeroDigit);
+            } else {
+                NumberPrinterParser.appendDigits(buf, value, rangeDigits, zeroDigit);
+                for (int i = rangeDigits; i < outputScale; i++) {
+                    buf.append(zeroDigit);
+                }
+            }
+        }
+
         @Override
         public int parse(DateTimeParseContext context, CharSequence text, int position) {
             int effectiveMin = (context.isStrict() ? minWidth : 0);
@@ -2757,11 +3267,35 @@ public final class DateTimeFormatterBuilder {
                 }
                 total = total * 10 + digit;
             }
-            BigDecimal fraction = new BigDecimal(total).movePointLeft(pos - position);
-            long value = convertFromFraction(fraction);
+            long value = parseValue(total, pos - position);
             return context.setParsedField(field, value, position, pos);
         }
 
+        /**
+         * Converts the parsed digits of a fraction to a value for this field.
+         * <p>
+         * Where the range permits, this uses integer arithmetic producing the
+         * same result as {@link #convertFromFraction(BigDecimal)}.
+         *
+         * @param total  the parsed digits as an integer
+         * @param digits  the number of digits parsed, from 0 to 9
+         * @return the value of the field
+         */
+        private long parseValue(int total, int digits) {
+            if (rangeDigits > 0) {
+                // range from zero to a power of ten, so scale the digits
+                if (digits <= rangeDigits) {
+                    return total * NumberPrinterParser.POWERS_OF_TEN[rangeDigits - digits];
+                }
+                return total / NumberPrinterParser.POWERS_OF_TEN[digits - rangeDigits];
+            }
+            if (rangeSize > 0) {
+                // cannot overflow as the digits are less than 10^9
+                return field.range().getMinimum() + total * rangeSize / NumberPrinterParser.POWERS_OF_TEN[digits];
+            }
+            return convertFromFraction(new BigDecimal(total).movePointLeft(digits));
+        }
+
         /**
          * Converts a value for this field to a fraction between 0 and 1.
          * <p>
@@ -2850,8 +3384,8 @@ public final class DateTimeFormatterBuilder {
 
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
-            Long value = context.getValue(field);
-            if (value == null) {
+            long value = context.getLong(field);
+            if (value == DateTimePrintContext.NO_VALUE && context.getValue(field) == null) {
                 return false;
             }
             String text = provider.getText(field, value, textStyle, context.getLocale());
@@ -2925,15 +3459,14 @@ public final class DateTimeFormatterBuilder {
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
             // use INSTANT_SECONDS, thus this code is not bound by Instant.MAX
-            Long inSecs = context.getValue(INSTANT_SECONDS);
-            Long inNanos = 0L;
+            long inSec = context.getLong(INSTANT_SECONDS);
+            long inNanos = 0L;
             if (context.getTemporal().isSupported(NANO_OF_SECOND)) {
                 inNanos = context.getTemporal().getLong(NANO_OF_SECOND);
             }
-            if (inSecs == null) {
+            if (inSec == DateTimePrintContext.NO_VALUE && context.getValue(INSTANT_SECONDS) == null) {
                 return false;
             }
-            long inSec = inSecs;
             int inNano = NANO_OF_SECOND.checkValidIntValue(inNanos);
             if (inSec >= -SECONDS_0000_TO_1970) {
                 // current era
@@ -2944,10 +3477,18 @@ public final class DateTimeFormatterBuilder {
                 if (hi > 0) {
                     buf.append('+').append(hi);
                 }
-                buf.append(ldt);
-                if (ldt.getSecond() == 0) {
-                    buf.append(":00");
-                }
+                // year is from 0000 to 9999, so print the digits directly rather than using toString()
+                NumberPrinterParser.appendDigits(buf, ldt.getYear(), 4, '0');
+                buf.append('-');
+                NumberPrinterParser.appendDigits(buf, ldt.getMonthValue(), 2, '0');
+                buf.append('-');
+                NumberPrinterParser.appendDigits(buf, ldt.getDayOfMonth(), 2, '0');
+                buf.append('T');
+                NumberPrinterParser.appendDigits(buf, ldt.getHour(), 2, '0');
+                buf.append(':');
+                NumberPrinterParser.appendDigits(buf, ldt.getMinute(), 2, '0');
+                buf.append(':');
+                NumberPrinterParser.appendDigits(buf, ldt.getSecond(), 2, '0');
             } else {
                 // before current era
                 long zeroSecs = inSec + SECONDS_0000_TO_1970;
@@ -2974,11 +3515,11 @@ public final class DateTimeFormatterBuilder {
                 if (inNano != 0) {
                     buf.append('.');
                     if (inNano % 1000000 == 0) {
-                        buf.append(Integer.toString((inNano / 1000000) + 1000).substring(1));
+                        NumberPrinterParser.appendDigits(buf, inNano / 1000000, 3, '0');
                     } else if (inNano % 1000 == 0) {
-                        buf.append(Integer.toString((inNano / 1000) + 1000000).substring(1));
+                        NumberPrinterParser.appendDigits(buf, inNano / 1000, 6, '0');
                     } else {
-                        buf.append(Integer.toString((inNano) + 1000000000).substring(1));
+                        NumberPrinterParser.appendDigits(buf, inNano, 9, '0');
                     }
                 }
             } else if (fractionalDigits > 0 || (fractionalDigits == -1 && inNano > 0)) {
@@ -3086,8 +3627,8 @@ public final class DateTimeFormatterBuilder {
 
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
-            Long offsetSecs = context.getValue(OFFSET_SECONDS);
-            if (offsetSecs == null) {
+            long offsetSecs = context.getLong(OFFSET_SECONDS);
+            if (offsetSecs == DateTimePrintContext.NO_VALUE && context.getValue(OFFSET_SECONDS) == null) {
                 return false;
             }
             int totalSecs = Jdk8Methods.safeToInt(offsetSecs);
@@ -3215,8 +3756,8 @@ public final class DateTimeFormatterBuilder {
 
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
-            Long offsetSecs = context.getValue(OFFSET_SECONDS);
-            if (offsetSecs == null) {
+            long offsetSecs = context.getLong(OFFSET_SECONDS);
+            if (offsetSecs == DateTimePrintContext.NO_VALUE && context.getValue(OFFSET_SECONDS) == null) {
                 return false;
             }
             buf.append("GMT");
@@ -3338,17 +3879,31 @@ public final class DateTimeFormatterBuilder {
      * Prints or parses a zone ID.
      */
     static final class ZoneTextPrinterParser implements DateTimePrinterParser {
-        /** The text style to output. */
-        private static final Comparator<String> LENGTH_COMPARATOR = new Comparator<String>() {
-            @Override
-            public int compare(String str1, String str2) {
-                int cmp = str2.length() - str1.length();
-                if (cmp == 0) {
-                    cmp = str1.compareTo(str2);
-                }
-                return cmp;
-            }
-        };
+        /**
+         * The maximum number of locales, and of zones for each locale, with cached display names.
+         */
+        private static final int MAX_CACHED_NAMES = 1024;
+        /**
+         * The cached long display names, keyed by locale then zone ID, standard name first.
+         */
+        private static final ConcurrentMap<Locale, ConcurrentMap<String, String[]>> LONG_DISPLAY_NAMES =
+                new ConcurrentHashMap<Locale, ConcurrentMap<String, String[]>>(16, 0.75f, 2);
+        /**
+         * The cached short display names, keyed by locale then zone ID, standard name first.
+         */
+        private static final ConcurrentMap<Locale, ConcurrentMap<String, String[]>> SHORT_DISPLAY_NAMES =
+                new ConcurrentHashMap<Locale, ConcurrentMap<String, String[]>>(16, 0.75f, 2);
+        /**
+         * The cached indexes of long zone names, keyed by locale.
+         */
+        private static final ConcurrentMap<Locale, ZoneNameIndex> LONG_NAME_INDEXES =
+                new ConcurrentHashMap<Locale, ZoneNameIndex>(16, 0.75f, 2);
+        /**
+         * The cached indexes of short zone names, keyed by locale.
+         */
+        private static final ConcurrentMap<Locale, ZoneNameIndex> SHORT_NAME_INDEXES =
+                new ConcurrentHashMap<Locale, ZoneNameIndex>(16, 0.75f, 2);
+
         /** The text style to output. */
         private final TextStyle textStyle;
 
@@ -3374,40 +3929,216 @@ public final class DateTimeFormatterBuilder {
             } else {
                 instant = Instant.ofEpochSecond(-200L * 365 * 86400);  // about 1770
             }
-            TimeZone tz = TimeZone.getTimeZone(zone.getId());
             boolean daylight = zone.getRules().isDaylightSavings(instant);
             int tzstyle = (textStyle.asNormal() == TextStyle.FULL ? TimeZone.LONG : TimeZone.SHORT);
-            String text = tz.getDisplayName(daylight, tzstyle, context.getLocale());
+            String text = getDisplayName(zone.getId(), daylight, tzstyle, context.getLocale());
             buf.append(text);
             return true;
         }
 
+        /**
+         * Gets the display name of a zone, using a cache.
+         * <p>
+         * The JDK methods to obtain the name are slow and synchronized.
+         * The cache is bounded by {@link #MAX_CACHED_NAMES} for each style and locale.
+         *
+         * @param zoneId  the zone ID, not null
+         * @param daylight  true for the daylight savings name
+         * @param tzstyle  the {@code TimeZone} style
+         * @param locale  the locale, not null
+         * @return the display name, not null
+         */
+        private static String getDisplayName(String zoneId, boolean daylight, int tzstyle, Locale locale) {
+            ConcurrentMap<Locale, ConcurrentMap<String, String[]>> cache =
+                    (tzstyle == TimeZone.LONG ? LONG_DISPLAY_NAMES : SHORT_DISPLAY_NAMES);
+            ConcurrentMap<String, String[]> names = cache.get(locale);
+            if (names == null) {
+                if (cache.size() >= MAX_CACHED_NAMES) {
+                    return TimeZone.getTimeZone(zoneId).getDisplayName(daylight, tzstyle, locale);
+                }
+                cache.putIfAbsent(locale, new ConcurrentHashMap<String, String[]>(16, 0.75f, 2));
+                names = cache.get(locale);
+            }
+            String[] pair = names.get(zoneId);
+            if (pair == null) {
+                TimeZone tz = TimeZone.getTimeZone(zoneId);
+                pair = new String[] {tz.getDisplayName(false, tzstyle, locale), tz.getDisplayName(true, tzstyle, locale)};
+                if (names.size() < MAX_CACHED_NAMES) {
+                    names.putIfAbsent(zoneId, pair);
+                }
+            }
+            return pair[daylight ? 1 : 0];
+        }
+
+        /**
+         * This implementation looks for the longest matching zone ID or display name.
+         * <p>
+         * The names are held in a trie per locale and style, which is built on first use.
+         * As zone IDs are never removed, a match found using the cached index is always valid.
+         * If no match is found, the index is rebuilt if the available zone IDs have changed.
+         */
         @Override
         public int parse(DateTimeParseContext context, CharSequence text, int position) {
             // this is a poor implementation that handles some but not all of the spec
             // JDK8 has a lot of extra information here
-            Map<String, String> ids = new TreeMap<String, String>(LENGTH_COMPARATOR);
-            for (String id : ZoneId.getAvailableZoneIds()) {
-                ids.put(id, id);
-                TimeZone tz = TimeZone.getTimeZone(id);
-                int tzstyle = (textStyle.asNormal() == TextStyle.FULL ? TimeZone.LONG : TimeZone.SHORT);
-                ids.put(tz.getDisplayName(false, tzstyle, context.getLocale()), id);
-                ids.put(tz.getDisplayName(true, tzstyle, context.getLocale()), id);
-            }
-            for (Entry<String, String> entry : ids.entrySet()) {
-                String name = entry.getKey();
-                if (context.subSequenceEquals(text, position, name, 0, name.length())) {
-                    context.setParsed(ZoneId.of(entry.getValue()));
-                    return position + name.length();
+            int tzstyle = (textStyle.asNormal() == TextStyle.FULL ? TimeZone.LONG : TimeZone.SHORT);
+            ConcurrentMap<Locale, ZoneNameIndex> indexes = (tzstyle == TimeZone.LONG ? LONG_NAME_INDEXES : SHORT_NAME_INDEXES);
+            Locale locale = context.getLocale();
+            ZoneNameIndex index = indexes.get(locale);
+            if (index == null) {
+                index = new ZoneNameIndex(ZoneId.getAvailableZoneIds(), tzstyle, locale);
+                indexes.put(locale, index);
+            }
+            int end = index.parse(context, text, position);
+            if (end < 0) {
+                Set<String> zoneIds = ZoneId.getAvailableZoneIds();
+                if (zoneIds.size() != index.zoneIdCount) {
+                    index = new ZoneNameIndex(zoneIds, tzstyle, locale);
+                    indexes.put(locale, index);
+                    end = index.parse(context, text, position);
                 }
             }
-            return ~position;
+            return end;
         }
 
         @Override
         public String toString() {
             return "ZoneText(" + textStyle + ")";
         }
+
+        //-----------------------------------------------------------------------
+        /**
+         * An immutable index of the zone IDs and zone display names for one locale and style.
+         * <p>
+         * The names are held in two tries, one matching exactly and one matching with the case folded.
+         * Where two names clash, zone IDs take precedence over display names, and otherwise the
+         * name of the first zone ID in alphabetical order is used.
+         */
+        private static final class ZoneNameIndex {
+            /**
+             * The number of zone IDs that were available when the index was built.
+             */
+            final int zoneIdCount;
+            /**
+             * The trie of names matched case sensitively.
+             */
+            private final TrieNode exact = new TrieNode();
+            /**
+             * The trie of names matched case insensitively.
+             */
+            private final TrieNode folded = new TrieNode();
+
+            /**
+             * Constructor.
+             *
+             * @param zoneIds  the available zone IDs, not null
+             * @param tzstyle  the {@code TimeZone} style
+             * @param locale  the locale, not null
+             */
+            ZoneNameIndex(Set<String> zoneIds, int tzstyle, Locale locale) {
+                this.zoneIdCount = zoneIds.size();
+                List<String> ids = new ArrayList<String>(zoneIds);
+                Collections.sort(ids);
+                for (String id : ids) {
+                    add(id, id);
+                }
+                for (String id : ids) {
+                    TimeZone tz = TimeZone.getTimeZone(id);
+                    add(tz.getDisplayName(false, tzstyle, locale), id);
+                    add(tz.getDisplayName(true, tzstyle, locale), id);
+                }
+            }
+
+            private void add(String name, String zoneId) {
+                TrieNode node = exact;
+                TrieNode foldedNode = folded;
+                for (int i = 0; i < name.length(); i++) {
+                    char ch = name.charAt(i);
+                    node = node.addChild(ch);
+                    foldedNode = foldedNode.addChild(fold(ch));
+                }
+                if (node.zoneId == null) {
+                    node.zoneId = zoneId;
+                }
+                if (foldedNode.zoneId == null) {
+                    foldedNode.zoneId = zoneId;
+                }
+            }
+
+            /**
+             * Parses the longest matching name.
+             *
+             * @param context  the context to use and parse into, not null
+             * @param text  the input text to parse, not null
+             * @param position  the position to start parsing at
+             * @return the position after the parse, negative if not matched
+             */
+            int parse(DateTimeParseContext context, CharSequence text, int position) {
+                boolean caseSensitive = context.isCaseSensitive();
+                TrieNode node = (caseSensitive ? exact : folded);
+                String matchedZoneId = null;
+                int matchedEnd = ~position;
+                int length = text.length();
+                for (int pos = position; pos < length; pos++) {
+                    char ch = text.charAt(pos);
+                    node = node.getChild(caseSensitive ? ch : fold(ch));
+                    if (node == null) {
+                        break;
+                    }
+                    if (node.zoneId != null) {
+                        matchedZoneId = node.zoneId;
+                        matchedEnd = pos + 1;
+                    }
+                }
+                if (matchedZoneId != null) {
+                    context.setParsed(ZoneId.of(matchedZoneId));
+                }
+                return matchedEnd;
+            }
+
+            private static char fold(char ch) {
+                return Character.toLowerCase(Character.toUpperCase(ch));
+            }
+        }
+
+        /**
+         * A node in a trie of zone names.
+         * <p>
+         * Children are held in arrays sorted by character.
+         */
+        private static final class TrieNode {
+            /** The sorted characters of the children. */
+            private char[] chars = new char[0];
+            /** The children, in the same order as the characters. */
+            private TrieNode[] children = new TrieNode[0];
+            /** The zone ID if a name ends at this node, null otherwise. */
+            String zoneId;
+
+            TrieNode getChild(char ch) {
+                int index = Arrays.binarySearch(chars, ch);
+                return (index >= 0 ? children[index] : null);
+            }
+
+            TrieNode addChild(char ch) {
+                int index = Arrays.binarySearch(chars, ch);
+                if (index >= 0) {
+                    return children[index];
+                }
+                index = -index - 1;
+                char[] newChars = new char[chars.length + 1];
+                TrieNode[] newChildren = new TrieNode[chars.length + 1];
+                System.arraycopy(chars, 0, newChars, 0, index);
+                System.arraycopy(children, 0, newChildren, 0, index);
+                System.arraycopy(chars, index, newChars, index + 1, chars.length - index);
+                System.arraycopy(children, index, newChildren, index + 1, chars.length - index);
+                TrieNode child = new TrieNode();
+                newChars[index] = ch;
+                newChildren[index] = child;
+                chars = newChars;
+                children = newChildren;
+                return child;
+            }
+        }
     }
 
     //-----------------------------------------------------------------------
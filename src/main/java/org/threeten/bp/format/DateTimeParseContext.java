@@ -32,10 +32,9 @@
 package org.threeten.bp.format;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 
 import org.threeten.bp.Period;
 import org.threeten.bp.ZoneId;
@@ -91,9 +90,33 @@ final class DateTimeParseContext {
      */
     private boolean strict = true;
     /**
-     * The list of parsed data.
+     * The parsed data.
      */
-    private final ArrayList<Parsed> parsed = new ArrayList<Parsed>();
+    private final Parsed parsed = new Parsed();
+    /**
+     * The checkpoints of the optional sections currently being parsed, reused between sections.
+     */
+    private final ArrayList<Checkpoint> checkpoints = new ArrayList<Checkpoint>();
+    /**
+     * The number of optional sections currently being parsed.
+     */
+    private int optionalDepth;
+    /**
+     * The fields changed within the optional sections being parsed, in order.
+     */
+    private TemporalField[] undoFields;
+    /**
+     * The values of the fields before they were changed.
+     */
+    private long[] undoValues;
+    /**
+     * Whether the fields had values before they were changed.
+     */
+    private boolean[] undoPresent;
+    /**
+     * The number of entries in the undo log.
+     */
+    private int undoSize;
 
     /**
      * Creates a new instance of the context.
@@ -106,7 +129,6 @@ final class DateTimeParseContext {
         this.symbols = formatter.getDecimalStyle();
         this.overrideChronology = formatter.getChronology();
         this.overrideZone = formatter.getZone();
-        parsed.add(new Parsed());
     }
 
     // for testing
@@ -116,7 +138,6 @@ final class DateTimeParseContext {
         this.symbols = symbols;
         this.overrideChronology = chronology;
         this.overrideZone = null;
-        parsed.add(new Parsed());
     }
 
     DateTimeParseContext(DateTimeParseContext other) {
@@ -127,7 +148,6 @@ final class DateTimeParseContext {
         this.overrideZone = other.overrideZone;
         this.caseSensitive = other.caseSensitive;
         this.strict = other.strict;
-        parsed.add(new Parsed());
     }
 
     /**
@@ -137,6 +157,20 @@ final class DateTimeParseContext {
         return new DateTimeParseContext(this);
     }
 
+    /**
+     * Resets this context so that it can be used for another parse.
+     * <p>
+     * The parse settings are restored to their defaults and the parsed data
+     * is cleared, reusing the existing objects.
+     */
+    void reset() {
+        caseSensitive = true;
+        strict = true;
+        parsed.clear();
+        optionalDepth = 0;
+        undoSize = 0;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the locale.
@@ -284,9 +318,26 @@ final class DateTimeParseContext {
     //-----------------------------------------------------------------------
     /**
      * Starts the parsing of an optional segment of the input.
+     * <p>
+     * Rather than copying the parsed data, a checkpoint is recorded and each field
+     * changed within the segment is logged, such that an unsuccessful segment
+     * can be rolled back at a cost proportional to the fields it parsed.
      */
     void startOptional() {
-        parsed.add(currentParsed().copy());
+        Checkpoint checkpoint;
+        if (optionalDepth < checkpoints.size()) {
+            checkpoint = checkpoints.get(optionalDepth);
+        } else {
+            checkpoint = new Checkpoint();
+            checkpoints.add(checkpoint);
+        }
+        optionalDepth++;
+        checkpoint.undoSize = undoSize;
+        checkpoint.chrono = parsed.chrono;
+        checkpoint.zone = parsed.zone;
+        checkpoint.leapSecond = parsed.leapSecond;
+        checkpoint.callbacks = parsed.callbacks;
+        parsed.callbacks = null;  // callbacks are local to the segment
     }
 
     /**
@@ -295,11 +346,51 @@ final class DateTimeParseContext {
      * @param successful  whether the optional segment was successfully parsed
      */
     void endOptional(boolean successful) {
-        if (successful) {
-            parsed.remove(parsed.size() - 2);
-        } else {
-            parsed.remove(parsed.size() - 1);
+        optionalDepth--;
+        Checkpoint checkpoint = checkpoints.get(optionalDepth);
+        if (successful == false) {
+            FieldValueMap fieldValues = parsed.fieldValues;
+            for (int i = undoSize - 1; i >= checkpoint.undoSize; i--) {
+                if (undoPresent[i]) {
+                    fieldValues.putValue(undoFields[i], undoValues[i]);
+                } else {
+                    fieldValues.removeField(undoFields[i]);
+                }
+            }
+            undoSize = checkpoint.undoSize;
+            parsed.chrono = checkpoint.chrono;
+            parsed.zone = checkpoint.zone;
+            parsed.leapSecond = checkpoint.leapSecond;
+            parsed.callbacks = checkpoint.callbacks;
+        } else if (optionalDepth == 0) {
+            undoSize = 0;  // changes can no longer be rolled back
         }
+        checkpoint.chrono = null;
+        checkpoint.zone = null;
+        checkpoint.callbacks = null;
+    }
+
+    /**
+     * Logs the previous state of a field that is about to change within an optional segment.
+     *
+     * @param field  the field, not null
+     * @param present  whether the field had a value
+     * @param value  the previous value, ignored if not present
+     */
+    private void logUndo(TemporalField field, boolean present, long value) {
+        if (undoFields == null) {
+            undoFields = new TemporalField[16];
+            undoValues = new long[16];
+            undoPresent = new boolean[16];
+        } else if (undoSize == undoFields.length) {
+            undoFields = Arrays.copyOf(undoFields, undoSize * 2);
+            undoValues = Arrays.copyOf(undoValues, undoSize * 2);
+            undoPresent = Arrays.copyOf(undoPresent, undoSize * 2);
+        }
+        undoFields[undoSize] = field;
+        undoValues[undoSize] = value;
+        undoPresent[undoSize] = present;
+        undoSize++;
     }
 
     //-----------------------------------------------------------------------
@@ -309,7 +400,7 @@ final class DateTimeParseContext {
      * @return the current temporal objects, not null
      */
     private Parsed currentParsed() {
-        return parsed.get(parsed.size() - 1);
+        return parsed;
     }
 
     //-----------------------------------------------------------------------
@@ -342,8 +433,15 @@ final class DateTimeParseContext {
      */
     int setParsedField(TemporalField field, long value, int errorPos, int successPos) {
         Jdk8Methods.requireNonNull(field, "field");
-        Long old = currentParsed().fieldValues.put(field, value);
-        return (old != null && old.longValue() != value) ? ~errorPos : successPos;
+        FieldValueMap fieldValues = currentParsed().fieldValues;
+        boolean present = fieldValues.containsKey(field);
+        long old = (present ? fieldValues.getValue(field) : 0);
+        if (optionalDepth > 0) {
+            logUndo(field, present, old);
+        }
+        boolean conflict = present && old != value;
+        fieldValues.putValue(field, value);
+        return conflict ? ~errorPos : successPos;
     }
 
     /**
@@ -418,6 +516,18 @@ final class DateTimeParseContext {
         return currentParsed().toString();
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * The state of the parsed data at the start of an optional segment.
+     */
+    private static final class Checkpoint {
+        int undoSize;
+        Chronology chrono;
+        ZoneId zone;
+        boolean leapSecond;
+        List<Object[]> callbacks;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Temporary store of parsed data.
@@ -425,20 +535,20 @@ final class DateTimeParseContext {
     final class Parsed extends DefaultInterfaceTemporalAccessor {
         Chronology chrono = null;
         ZoneId zone = null;
-        final Map<TemporalField, Long> fieldValues = new HashMap<TemporalField, Long>();
+        final FieldValueMap fieldValues = new FieldValueMap();
         boolean leapSecond;
         Period excessDays = Period.ZERO;
         List<Object[]> callbacks;
 
         private Parsed() {
         }
-        protected Parsed copy() {
-            Parsed cloned = new Parsed();
-            cloned.chrono = this.chrono;
-            cloned.zone = this.zone;
-            cloned.fieldValues.putAll(this.fieldValues);
-            cloned.leapSecond = this.leapSecond;
-            return cloned;
+        private void clear() {
+            chrono = null;
+            zone = null;
+            fieldValues.clear();
+            leapSecond = false;
+            excessDays = Period.ZERO;
+            callbacks = null;
         }
         @Override
         public String toString() {
@@ -453,7 +563,7 @@ final class DateTimeParseContext {
             if (fieldValues.containsKey(field) == false) {
                 throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
             }
-            long value = fieldValues.get(field);
+            long value = fieldValues.getValue(field);
             return Jdk8Methods.safeToInt(value);
         }
         @Override
@@ -461,7 +571,7 @@ final class DateTimeParseContext {
             if (fieldValues.containsKey(field) == false) {
                 throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
             }
-            return fieldValues.get(field);
+            return fieldValues.getValue(field);
         }
         @SuppressWarnings("unchecked")
         @Override
@@ -488,7 +598,16 @@ final class DateTimeParseContext {
          * @return a new builder with the results of the parse, not null
          */
         DateTimeBuilder toBuilder() {
-            DateTimeBuilder builder = new DateTimeBuilder();
+            return toBuilder(new DateTimeBuilder());
+        }
+
+        /**
+         * Populates an empty {@code DateTimeBuilder} with the results of the parse.
+         *
+         * @param builder  the empty builder to populate, not null
+         * @return the builder, not null
+         */
+        DateTimeBuilder toBuilder(DateTimeBuilder builder) {
             builder.fieldValues.putAll(fieldValues);
             builder.chrono = getEffectiveChronology();
             if (zone != null) {
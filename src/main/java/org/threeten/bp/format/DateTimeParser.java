@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import java.nio.ByteBuffer;
+import java.text.ParsePosition;
+import java.util.BitSet;
+import java.util.List;
+
+import org.threeten.bp.format.DateTimeParseContext.Parsed;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoUnit;
+import org.threeten.bp.temporal.TemporalQuery;
+
+/**
+ * Parser that reuses its internal state between parses.
+ * <p>
+ * Each call to {@link DateTimeFormatter#parse(CharSequence, TemporalQuery)} creates
+ * a new parse context, parsed data and builder. This class holds those objects,
+ * resetting them before each parse instead of creating new ones.
+ * This reduces the garbage created when parsing a large number of values, for example:
+ * <pre>
+ *  DateTimeParser parser = DateTimeFormatter.ISO_LOCAL_DATE.newParser();
+ *  for (String line : lines) {
+ *    LocalDate date = parser.parse(line, LocalDate.FROM);
+ *  }
+ * </pre>
+ * Instances are obtained using {@link DateTimeFormatter#newParser()}.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ * It should only be used from a single thread.
+ */
+public final class DateTimeParser {
+
+    /**
+     * The formatter, not null.
+     */
+    private final DateTimeFormatter formatter;
+    /**
+     * The reused parse context, not null.
+     */
+    private final DateTimeParseContext context;
+    /**
+     * The reused builder, not null.
+     */
+    private final DateTimeBuilder builder = new DateTimeBuilder();
+    /**
+     * The reused parse position, not null.
+     */
+    private final ParsePosition position = new ParsePosition(0);
+    /**
+     * The reused view of bytes being parsed, not null.
+     */
+    private final AsciiCharSequence bytesView = new AsciiCharSequence();
+
+    /**
+     * Constructor.
+     *
+     * @param formatter  the formatter to parse using, not null
+     */
+    DateTimeParser(DateTimeFormatter formatter) {
+        this.formatter = formatter;
+        this.context = new DateTimeParseContext(formatter);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the formatter used to parse.
+     *
+     * @return the formatter, not null
+     */
+    public DateTimeFormatter getFormatter() {
+        return formatter;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Fully parses the text producing an object of the specified type.
+     * <p>
+     * This behaves exactly as {@link DateTimeFormatter#parse(CharSequence, TemporalQuery)}.
+     * The temporal passed to the query is reused by the next parse, thus
+     * the query must not retain it.
+     *
+     * @param <T> the type to extract
+     * @param text  the text to parse, not null
+     * @param type  the type to extract, not null
+     * @return the parsed date-time, not null
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    public <T> T parse(CharSequence text, TemporalQuery<T> type) {
+        Jdk8Methods.requireNonNull(text, "text");
+        Jdk8Methods.requireNonNull(type, "type");
+        try {
+            return parseToBuilder(text).build(type);
+        } catch (DateTimeParseException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw formatter.createError(text, ex);
+        }
+    }
+
+    /**
+     * Fully parses ASCII text held in a byte array producing an object of the specified type.
+     * <p>
+     * This behaves exactly as {@link DateTimeFormatter#parse(byte[], int, int, TemporalQuery)}.
+     * The view of the bytes is reused by the next parse, thus scanning many records
+     * in a single array creates no garbage for the text.
+     * The temporal passed to the query is reused by the next parse, thus
+     * the query must not retain it.
+     *
+     * @param <T> the type to extract
+     * @param bytes  the bytes to parse, not null
+     * @param offset  the index of the first byte to parse
+     * @param length  the number of bytes to parse
+     * @param type  the type to extract, not null
+     * @return the parsed date-time, not null
+     * @throws IndexOutOfBoundsException if the range is invalid
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    public <T> T parse(byte[] bytes, int offset, int length, TemporalQuery<T> type) {
+        Jdk8Methods.requireNonNull(bytes, "bytes");
+        return parse(bytesView.reset(bytes, offset, length), type);
+    }
+
+    /**
+     * Fully parses ASCII text held in a byte buffer producing an object of the specified type.
+     * <p>
+     * This behaves as {@link DateTimeFormatter#parse(ByteBuffer, TemporalQuery)} except
+     * that the range to parse is specified using absolute indices, ignoring the position
+     * of the buffer. This suits scanning records in a memory-mapped file
+     * without slicing or repositioning the buffer.
+     * The temporal passed to the query is reused by the next parse, thus
+     * the query must not retain it.
+     *
+     * @param <T> the type to extract
+     * @param buffer  the buffer to parse, not null
+     * @param index  the absolute index of the first byte to parse
+     * @param length  the number of bytes to parse
+     * @param type  the type to extract, not null
+     * @return the parsed date-time, not null
+     * @throws IndexOutOfBoundsException if the range is invalid
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    public <T> T parse(ByteBuffer buffer, int index, int length, TemporalQuery<T> type) {
+        Jdk8Methods.requireNonNull(buffer, "buffer");
+        return parse(bytesView.reset(buffer, index, length), type);
+    }
+
+    /**
+     * Parses and resolves the text, returning null if the text cannot be parsed
+     * rather than throwing an exception.
+     * <p>
+     * This behaves exactly as {@link DateTimeFormatter#parseResolved(CharSequence, ParsePosition, TemporalQuery)}.
+     * The temporal passed to the query is reused by the next parse, thus
+     * the query must not retain it.
+     *
+     * @param <T> the type of the parsed date-time
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from, updated with length parsed
+     *  and the index of any error, not null
+     * @param type  the type to extract, not null
+     * @return the parsed date-time, null if unable to parse the requested result
+     * @throws IndexOutOfBoundsException if the position is invalid
+     */
+    public <T> T parseResolved(CharSequence text, ParsePosition position, TemporalQuery<T> type) {
+        context.reset();
+        return formatter.parseResolved(context, text, position, builder.clear(), type);
+    }
+
+    /**
+     * Fully parses the text producing an epoch-day.
+     * <p>
+     * This behaves exactly as {@link DateTimeFormatter#parseEpochDay(CharSequence)}.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed epoch-day
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    public long parseEpochDay(CharSequence text) {
+        return parseEpoch(text, ChronoUnit.DAYS);
+    }
+
+    /**
+     * Fully parses the text producing an epoch-second.
+     * <p>
+     * This behaves exactly as {@link DateTimeFormatter#parseEpochSecond(CharSequence)}.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed epoch-second
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    public long parseEpochSecond(CharSequence text) {
+        return parseEpoch(text, ChronoUnit.SECONDS);
+    }
+
+    /**
+     * Fully parses the text producing an epoch-milli.
+     * <p>
+     * This behaves exactly as {@link DateTimeFormatter#parseEpochMilli(CharSequence)}.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed epoch-milli
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    public long parseEpochMilli(CharSequence text) {
+        return parseEpoch(text, ChronoUnit.MILLIS);
+    }
+
+    /**
+     * Fully parses the text producing an epoch value.
+     *
+     * @param text  the text to parse, not null
+     * @param unit  the unit of the result, one of days, seconds or millis
+     * @return the parsed epoch value
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    long parseEpoch(CharSequence text, ChronoUnit unit) {
+        reset();
+        return formatter.parseEpoch(context, text, position, builder.clear(), unit);
+    }
+
+    /**
+     * Fully parses ASCII text held in a byte array producing an epoch value.
+     *
+     * @param bytes  the bytes to parse, not null
+     * @param offset  the index of the first byte to parse
+     * @param length  the number of bytes to parse
+     * @param unit  the unit of the result, one of days, seconds or millis
+     * @return the parsed epoch value
+     * @throws IndexOutOfBoundsException if the range is invalid
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    long parseEpoch(byte[] bytes, int offset, int length, ChronoUnit unit) {
+        return parseEpoch(bytesView.reset(bytes, offset, length), unit);
+    }
+
+    /**
+     * Fully parses the text producing an epoch value, without throwing an exception if unable to parse.
+     * <p>
+     * Failure is indicated by {@link #isFailed()} returning true after the call.
+     *
+     * @param text  the text to parse, not null
+     * @param unit  the unit of the result, one of days, seconds or millis
+     * @return the parsed epoch value, zero if unable to parse
+     */
+    long parseEpochResolved(CharSequence text, ChronoUnit unit) {
+        reset();
+        return formatter.parseEpochResolved(context, text, position, builder.clear(), unit);
+    }
+
+    /**
+     * Fully parses ASCII text held in a byte array producing an epoch value,
+     * without throwing an exception if unable to parse.
+     * <p>
+     * Failure is indicated by {@link #isFailed()} returning true after the call.
+     *
+     * @param bytes  the bytes to parse, not null
+     * @param offset  the index of the first byte to parse
+     * @param length  the number of bytes to parse
+     * @param unit  the unit of the result, one of days, seconds or millis
+     * @return the parsed epoch value, zero if unable to parse
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    long parseEpochResolved(byte[] bytes, int offset, int length, ChronoUnit unit) {
+        return parseEpochResolved(bytesView.reset(bytes, offset, length), unit);
+    }
+
+    /**
+     * Checks if the last call to {@code parseEpochResolved} failed.
+     *
+     * @return true if the last parse failed
+     */
+    boolean isFailed() {
+        return position.getErrorIndex() >= 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses a list of texts producing an array of epoch values.
+     * <p>
+     * Each text is fully parsed as per {@link #parseEpochDay(CharSequence)},
+     * {@link #parseEpochSecond(CharSequence)} or {@link #parseEpochMilli(CharSequence)},
+     * as selected by the unit, with the result stored at the same index in the results array.
+     * Where a text cannot be parsed, the result is set to zero and the bit at that
+     * index is set in the failures bit set. The bits for the other texts are cleared.
+     * <p>
+     * This is intended for loading a column of values. Failures are recorded rather
+     * than thrown, thus a single bad value does not abandon the batch.
+     *
+     * @param texts  the texts to parse, not null
+     * @param unit  the unit of the results, one of {@code DAYS}, {@code SECONDS} or {@code MILLIS}, not null
+     * @param results  the array to store the results in, not null
+     * @param failures  the bit set to record failures in, not null
+     * @return the number of texts that could not be parsed
+     * @throws IllegalArgumentException if the unit is not supported
+     * @throws IndexOutOfBoundsException if the results array is shorter than the list
+     */
+    public int parseEpochs(List<? extends CharSequence> texts, ChronoUnit unit, long[] results, BitSet failures) {
+        Jdk8Methods.requireNonNull(texts, "texts");
+        Jdk8Methods.requireNonNull(unit, "unit");
+        Jdk8Methods.requireNonNull(results, "results");
+        Jdk8Methods.requireNonNull(failures, "failures");
+        return new EpochBatchParser(texts, unit, results).parse(this, failures);
+    }
+
+    /**
+     * Parses ASCII records held in a byte array producing an array of epoch values.
+     * <p>
+     * This behaves as {@link #parseEpochs(List, ChronoUnit, long[], BitSet)} except that
+     * the texts are read from the bytes without decoding them to strings.
+     * The records are stored one after another starting at the offset, with
+     * the index after the end of each record held in the ends array.
+     * This is the layout written by
+     * {@link DateTimeFormatter#formatEpochMillis(long[], org.threeten.bp.ZoneId, byte[], int, int[])}.
+     *
+     * @param bytes  the bytes to parse, not null
+     * @param offset  the index of the first byte of the first record
+     * @param ends  the index after the end of each record, not null
+     * @param unit  the unit of the results, one of {@code DAYS}, {@code SECONDS} or {@code MILLIS}, not null
+     * @param results  the array to store the results in, not null
+     * @param failures  the bit set to record failures in, not null
+     * @return the number of records that could not be parsed
+     * @throws IllegalArgumentException if the unit is not supported
+     * @throws IndexOutOfBoundsException if a record is outside the array,
+     *  or the results array is shorter than the ends array
+     */
+    public int parseEpochs(byte[] bytes, int offset, int[] ends, ChronoUnit unit, long[] results, BitSet failures) {
+        Jdk8Methods.requireNonNull(bytes, "bytes");
+        Jdk8Methods.requireNonNull(ends, "ends");
+        Jdk8Methods.requireNonNull(unit, "unit");
+        Jdk8Methods.requireNonNull(results, "results");
+        Jdk8Methods.requireNonNull(failures, "failures");
+        return new EpochBatchParser(bytes, offset, ends, unit, results).parse(this, failures);
+    }
+
+    /**
+     * Parses and resolves the text into the reused builder.
+     *
+     * @param text  the text to parse, not null
+     * @return the resolved builder, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    private DateTimeBuilder parseToBuilder(CharSequence text) {
+        DateTimeBuilder fast = IsoFastParser.parse(formatter, text, builder.clear());
+        if (fast != null) {
+            return fast;
+        }
+        reset();
+        Parsed result = formatter.parseUnresolved0(context, text, position);
+        formatter.checkParsed(text, position, result, true);
+        return result.toBuilder(builder.clear()).resolve(formatter.getResolverStyle(), formatter.getResolverFields());
+    }
+
+    /**
+     * Resets the reused state ready for the next parse.
+     */
+    private void reset() {
+        position.setIndex(0);
+        position.setErrorIndex(-1);
+        context.reset();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a description of the parser.
+     *
+     * @return a description of this parser, not null
+     */
+    @Override
+    public String toString() {
+        return formatter.toString();
+    }
+
+}
@@ -64,6 +64,11 @@ import org.threeten.bp.temporal.ValueRange;
  */
 final class DateTimePrintContext {
 
+    /**
+     * The value returned by {@link #getLong(TemporalField)} when the field is not available.
+     */
+    static final long NO_VALUE = Long.MIN_VALUE;
+
     /**
      * The temporal being output.
      */
@@ -280,6 +285,29 @@ final class DateTimePrintContext {
         }
     }
 
+    /**
+     * Gets the value of the specified field without boxing.
+     * <p>
+     * This is the primitive equivalent of {@link #getValue(TemporalField)}.
+     * If the field is not available and optional is true, {@link #NO_VALUE} is returned.
+     * As that is also a valid value, callers receiving it must confirm whether the
+     * field is available using {@link #getValue(TemporalField)}.
+     *
+     * @param field  the field to find, not null
+     * @return the value, {@code NO_VALUE} if not found and optional is true
+     * @throws DateTimeException if the field is not available and the section is not optional
+     */
+    long getLong(TemporalField field) {
+        try {
+            return temporal.getLong(field);
+        } catch (DateTimeException ex) {
+            if (optional > 0) {
+                return NO_VALUE;
+            }
+            throw ex;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a string version of the context for debugging.
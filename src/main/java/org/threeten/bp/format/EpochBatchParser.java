@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.temporal.ChronoUnit;
+
+/**
+ * Parses a column of texts to epoch values.
+ * <p>
+ * The texts are either a list of character sequences or a run of ASCII records
+ * in a byte array, delimited by an array of end indices as produced by
+ * {@link DateTimeFormatter#formatEpochMillis(long[], org.threeten.bp.ZoneId, byte[], int, int[])}.
+ * Each range of the column is parsed using a single {@link DateTimeParser},
+ * thus the parse context and builder are reused for every value in the range.
+ * Values that fail to parse are recorded in a bit set rather than thrown.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable, however the results array is written to.
+ * Ranges may be parsed concurrently provided they do not overlap.
+ */
+final class EpochBatchParser {
+
+    /**
+     * The minimum number of values parsed by each task when parsing in parallel.
+     */
+    static final int MIN_TASK_SIZE = 1024;
+
+    /**
+     * The texts to parse, null if parsing bytes.
+     */
+    private final List<? extends CharSequence> texts;
+    /**
+     * The bytes to parse, null if parsing texts.
+     */
+    private final byte[] bytes;
+    /**
+     * The index of the first byte.
+     */
+    private final int offset;
+    /**
+     * The end index of each record in the bytes, null if parsing texts.
+     */
+    private final int[] ends;
+    /**
+     * The unit of the results, one of days, seconds or millis.
+     */
+    private final ChronoUnit unit;
+    /**
+     * The array to store the results in, not null.
+     */
+    private final long[] results;
+    /**
+     * The number of values.
+     */
+    private final int size;
+
+    /**
+     * Constructor parsing a list of texts.
+     *
+     * @param texts  the texts to parse, not null
+     * @param unit  the unit of the results, not null
+     * @param results  the array to store the results in, not null
+     * @throws IllegalArgumentException if the unit is not supported
+     * @throws IndexOutOfBoundsException if the results array is too small
+     */
+    EpochBatchParser(List<? extends CharSequence> texts, ChronoUnit unit, long[] results) {
+        this(texts, null, 0, null, texts.size(), unit, results);
+    }
+
+    /**
+     * Constructor parsing records in a byte array.
+     *
+     * @param bytes  the bytes to parse, not null
+     * @param offset  the index of the first byte
+     * @param ends  the end index of each record, not null
+     * @param unit  the unit of the results, not null
+     * @param results  the array to store the results in, not null
+     * @throws IllegalArgumentException if the unit is not supported
+     * @throws IndexOutOfBoundsException if the results array is too small
+     */
+    EpochBatchParser(byte[] bytes, int offset, int[] ends, ChronoUnit unit, long[] results) {
+        this(null, bytes, offset, ends, ends.length, unit, results);
+    }
+
+    private EpochBatchParser(
+            List<? extends CharSequence> texts, byte[] bytes, int offset, int[] ends,
+            int size, ChronoUnit unit, long[] results) {
+        if (unit != ChronoUnit.DAYS && unit != ChronoUnit.SECONDS && unit != ChronoUnit.MILLIS) {
+            throw new IllegalArgumentException("Unit must be Days, Seconds or Millis: " + unit);
+        }
+        if (results.length < size) {
+            throw new IndexOutOfBoundsException("Unable to store " + size + " results in array of length " + results.length);
+        }
+        this.texts = texts;
+        this.bytes = bytes;
+        this.offset = offset;
+        this.ends = ends;
+        this.size = size;
+        this.unit = unit;
+        this.results = results;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses all the values using a single parser.
+     *
+     * @param parser  the parser to use, not null
+     * @param failures  the bit set to record failures in, not null
+     * @return the number of values that failed to parse
+     */
+    int parse(DateTimeParser parser, BitSet failures) {
+        failures.clear(0, size);
+        return parse(parser, 0, size, failures);
+    }
+
+    /**
+     * Parses all the values, splitting the work into tasks run by the executor.
+     * <p>
+     * Each task uses its own parser and bit set, with the bit sets combined once
+     * all the tasks have completed. Small batches are parsed on the calling thread.
+     *
+     * @param formatter  the formatter to use, not null
+     * @param failures  the bit set to record failures in, not null
+     * @param executor  the executor to run the tasks, not null
+     * @return the number of values that failed to parse
+     * @throws DateTimeException if interrupted while waiting for the tasks
+     */
+    int parse(DateTimeFormatter formatter, BitSet failures, ExecutorService executor) {
+        failures.clear(0, size);
+        int taskSize = Math.max(MIN_TASK_SIZE, size / (Runtime.getRuntime().availableProcessors() * 4) + 1);
+        if (size < taskSize * 2) {
+            return parse(formatter.newParser(), 0, size, failures);
+        }
+        List<Future<BitSet>> futures = new ArrayList<Future<BitSet>>(size / taskSize + 1);
+        try {
+            for (int from = 0; from < size; from += taskSize) {
+                futures.add(executor.submit(new Task(formatter, from, Math.min(size, from + taskSize))));
+            }
+            int count = 0;
+            for (Future<BitSet> future : futures) {
+                BitSet taskFailures = future.get();
+                count += taskFailures.cardinality();
+                failures.or(taskFailures);
+            }
+            return count;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DateTimeException("Interrupted while parsing", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new DateTimeException(cause.getMessage(), cause);
+        } finally {
+            for (Future<BitSet> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Parses a range of the values.
+     *
+     * @param parser  the parser to use, not null
+     * @param from  the index of the first value, inclusive
+     * @param to  the index of the last value, exclusive
+     * @param failures  the bit set to record failures in, not null
+     * @return the number of values that failed to parse
+     */
+    private int parse(DateTimeParser parser, int from, int to, BitSet failures) {
+        int count = 0;
+        int start = (texts != null || from == 0 ? offset : ends[from - 1]);
+        for (int i = from; i < to; i++) {
+            int end = (texts != null ? 0 : ends[i]);
+            if (texts != null) {
+                results[i] = parser.parseEpochResolved(texts.get(i), unit);
+            } else {
+                results[i] = parser.parseEpochResolved(bytes, start, end - start, unit);
+            }
+            if (parser.isFailed()) {
+                results[i] = 0;
+                failures.set(i);
+                count++;
+            }
+            start = end;
+        }
+        return count;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Task parsing a range of the values.
+     */
+    private final class Task implements Callable<BitSet> {
+        private final DateTimeFormatter formatter;
+        private final int from;
+        private final int to;
+
+        Task(DateTimeFormatter formatter, int from, int to) {
+            this.formatter = formatter;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public BitSet call() {
+            BitSet failures = new BitSet();
+            parse(formatter.newParser(), from, to, failures);
+            return failures;
+        }
+    }
+
+}
@@ -0,0 +1,451 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.threeten.bp.temporal.ChronoField.INSTANT_SECONDS;
+import static org.threeten.bp.temporal.ChronoField.OFFSET_SECONDS;
+import static org.threeten.bp.temporal.ChronoUnit.NANOS;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.jdk8.DefaultInterfaceTemporalAccessor;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.TemporalField;
+import org.threeten.bp.temporal.TemporalQueries;
+import org.threeten.bp.temporal.TemporalQuery;
+import org.threeten.bp.temporal.ValueRange;
+import org.threeten.bp.zone.ZoneOffsetTransition;
+import org.threeten.bp.zone.ZoneRules;
+
+/**
+ * Prints a column of epoch values using a single formatter and zone.
+ * <p>
+ * This amortizes the cost of formatting many values in three ways.
+ * The offset of the zone is retained together with the period between the
+ * surrounding transitions, and only looked up again when a value falls outside it.
+ * The temporal passed to the formatter is reused for each value.
+ * The common ISO formatters are printed directly to a character array,
+ * reusing the date text while consecutive values fall on the same day.
+ * The output is identical to formatting each value as a {@code ZonedDateTime}.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ * A new instance is created for each batch.
+ */
+final class EpochBatchPrinter {
+
+    /** Style printing using the formatter. */
+    private static final int GENERAL = 0;
+    /** Style printing as {@link DateTimeFormatter#ISO_INSTANT}. */
+    private static final int INSTANT = 1;
+    /** Style printing as {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}. */
+    private static final int OFFSET_DATE_TIME = 2;
+    /** Style printing as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}. */
+    private static final int LOCAL_DATE_TIME = 3;
+    /** Style printing as {@link DateTimeFormatter#ISO_LOCAL_DATE}. */
+    private static final int LOCAL_DATE = 4;
+    /** The first epoch-day printed directly, as the ISO formatters add a sign outside four digit years. */
+    private static final long MIN_DIRECT_EPOCH_DAY = LocalDate.of(0, 1, 1).toEpochDay();
+    /** The last epoch-day printed directly. */
+    private static final long MAX_DIRECT_EPOCH_DAY = LocalDate.of(9999, 12, 31).toEpochDay();
+    /** Seconds per day. */
+    private static final int SECONDS_PER_DAY = 86400;
+
+    /**
+     * The formatter, not null.
+     */
+    private final DateTimeFormatter formatter;
+    /**
+     * The zone rules, not null.
+     */
+    private final ZoneRules rules;
+    /**
+     * The style of printing.
+     */
+    private final int style;
+    /**
+     * The reused temporal for general printing, not null.
+     */
+    private final EpochTemporal temporal;
+    /**
+     * The reused buffer for general printing, not null.
+     */
+    private final StringBuilder buf = new StringBuilder(32);
+    /**
+     * The reused array for direct printing, starting with the date text of {@code cachedEpochDay}.
+     */
+    private final char[] chars = new char[40];
+    /**
+     * The epoch-day of the date text in {@code chars}.
+     */
+    private long cachedEpochDay = Long.MIN_VALUE;
+    /**
+     * The offset valid from {@code windowStart} inclusive to {@code windowEnd} exclusive.
+     */
+    private ZoneOffset offset;
+    /**
+     * The first epoch-second of the current offset.
+     */
+    private long windowStart;
+    /**
+     * The epoch-second after the last of the current offset.
+     */
+    private long windowEnd;
+
+    /**
+     * Constructor.
+     *
+     * @param formatter  the formatter to print using, not null
+     * @param zone  the zone to print in, not null
+     */
+    EpochBatchPrinter(DateTimeFormatter formatter, ZoneId zone) {
+        this.formatter = formatter;
+        this.rules = zone.getRules();
+        this.temporal = new EpochTemporal(zone);
+        if (formatter == DateTimeFormatter.ISO_INSTANT) {
+            style = INSTANT;
+        } else if (formatter == DateTimeFormatter.ISO_OFFSET_DATE_TIME) {
+            style = OFFSET_DATE_TIME;
+        } else if (formatter == DateTimeFormatter.ISO_LOCAL_DATE_TIME) {
+            style = LOCAL_DATE_TIME;
+        } else if (formatter == DateTimeFormatter.ISO_LOCAL_DATE) {
+            style = LOCAL_DATE;
+        } else {
+            style = GENERAL;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Prints the epoch-milli values to the array.
+     *
+     * @param epochMillis  the values to print, not null
+     * @param output  the array to print to, not null
+     * @param offset  the offset to start printing at
+     * @param ends  the array to store the end of each value in, not null
+     * @return the index after the last character printed
+     * @throws DateTimeException if an error occurs during formatting
+     * @throws IndexOutOfBoundsException if either array is too small
+     */
+    int printTo(long[] epochMillis, char[] output, int offset, int[] ends) {
+        checkBounds(epochMillis, output.length, offset, ends);
+        int pos = offset;
+        for (int i = 0; i < epochMillis.length; i++) {
+            int length = print(epochMillis[i]);
+            if (length >= 0) {
+                checkSpace(length, pos, output.length);
+                System.arraycopy(chars, 0, output, pos, length);
+            } else {
+                length = buf.length();
+                checkSpace(length, pos, output.length);
+                buf.getChars(0, length, output, pos);
+            }
+            pos += length;
+            ends[i] = pos;
+        }
+        return pos;
+    }
+
+    /**
+     * Prints the epoch-milli values to the array as UTF-8.
+     *
+     * @param epochMillis  the values to print, not null
+     * @param output  the array to print to, not null
+     * @param offset  the offset to start printing at
+     * @param ends  the array to store the end of each value in, not null
+     * @return the index after the last byte written
+     * @throws DateTimeException if an error occurs during formatting
+     * @throws IndexOutOfBoundsException if either array is too small
+     */
+    int printTo(long[] epochMillis, byte[] output, int offset, int[] ends) {
+        checkBounds(epochMillis, output.length, offset, ends);
+        int pos = offset;
+        for (int i = 0; i < epochMillis.length; i++) {
+            int length = print(epochMillis[i]);
+            if (length >= 0) {
+                // direct printing only produces ASCII
+                checkSpace(length, pos, output.length);
+                for (int j = 0; j < length; j++) {
+                    output[pos + j] = (byte) chars[j];
+                }
+            } else {
+                length = DateTimeFormatter.utf8Length(buf);
+                checkSpace(length, pos, output.length);
+                DateTimeFormatter.writeUtf8(buf, output, pos);
+            }
+            pos += length;
+            ends[i] = pos;
+        }
+        return pos;
+    }
+
+    private static void checkBounds(long[] epochMillis, int outputLength, int offset, int[] ends) {
+        if (ends.length < epochMillis.length) {
+            throw new IndexOutOfBoundsException("Unable to store the ends of " + epochMillis.length +
+                    " values in array of length " + ends.length);
+        }
+        if (offset < 0 || offset > outputLength) {
+            throw new IndexOutOfBoundsException("Invalid offset " + offset + " in array of length " + outputLength);
+        }
+    }
+
+    private static void checkSpace(int length, int offset, int outputLength) {
+        if (length > outputLength - offset) {
+            throw new IndexOutOfBoundsException("Unable to print " + length + " characters at offset " + offset +
+                    " in array of length " + outputLength);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Prints a single epoch-milli value.
+     *
+     * @param epochMilli  the value to print
+     * @return the length printed to {@code chars}, or -1 if printed to {@code buf}
+     * @throws DateTimeException if an error occurs during formatting
+     */
+    private int print(long epochMilli) {
+        long epochSecond = Jdk8Methods.floorDiv(epochMilli, 1000);
+        int nano = Jdk8Methods.floorMod(epochMilli, 1000) * 1000000;
+        ZoneOffset offset = offsetAt(epochSecond);
+        if (style != GENERAL) {
+            int length = printDirect(epochSecond, nano, offset);
+            if (length >= 0) {
+                return length;
+            }
+        }
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSecond, nano, offset);
+        temporal.set(epochSecond, dateTime, offset);
+        buf.setLength(0);
+        formatter.formatTo(temporal, buf);
+        return -1;
+    }
+
+    /**
+     * Obtains the offset at the epoch-second, reusing the previous offset if still valid.
+     *
+     * @param epochSecond  the epoch-second to find the offset for
+     * @return the offset, not null
+     */
+    private ZoneOffset offsetAt(long epochSecond) {
+        if (epochSecond < windowStart || epochSecond >= windowEnd) {
+            Instant instant = Instant.ofEpochSecond(epochSecond);
+            offset = rules.getOffset(instant);
+            // the previous transition strictly before the next second is at or before this instant
+            ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(epochSecond, 1));
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            windowStart = (previous != null ? previous.toEpochSecond() : Long.MIN_VALUE);
+            windowEnd = (next != null ? next.toEpochSecond() : Long.MAX_VALUE);
+        }
+        return offset;
+    }
+
+    /**
+     * Prints directly to {@code chars} for the supported ISO formatters.
+     *
+     * @param epochSecond  the epoch-second
+     * @param nano  the nano-of-second
+     * @param offset  the offset, not null
+     * @return the length printed, or -1 if the year is outside the range printed directly
+     */
+    private int printDirect(long epochSecond, int nano, ZoneOffset offset) {
+        long localSecond = (style == INSTANT ? epochSecond : epochSecond + offset.getTotalSeconds());
+        long epochDay = Jdk8Methods.floorDiv(localSecond, SECONDS_PER_DAY);
+        if (epochDay != cachedEpochDay) {
+            if (epochDay < MIN_DIRECT_EPOCH_DAY || epochDay > MAX_DIRECT_EPOCH_DAY) {
+                return -1;
+            }
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            int year = date.getYear();
+            put2(year / 100, 0);
+            put2(year % 100, 2);
+            chars[4] = '-';
+            put2(date.getMonthValue(), 5);
+            chars[7] = '-';
+            put2(date.getDayOfMonth(), 8);
+            cachedEpochDay = epochDay;
+        }
+        if (style == LOCAL_DATE) {
+            return 10;
+        }
+        int secondOfDay = Jdk8Methods.floorMod(localSecond, SECONDS_PER_DAY);
+        chars[10] = 'T';
+        put2(secondOfDay / 3600, 11);
+        chars[13] = ':';
+        put2((secondOfDay / 60) % 60, 14);
+        chars[16] = ':';
+        put2(secondOfDay % 60, 17);
+        int pos = 19;
+        if (nano != 0) {
+            chars[pos++] = '.';
+            if (style == INSTANT) {
+                // fraction in groups of three digits, as per appendInstant()
+                int digits = (nano % 1000000 == 0 ? 3 : (nano % 1000 == 0 ? 6 : 9));
+                pos = putFraction(nano, digits, pos);
+            } else {
+                // fraction without trailing zeros, as per appendFraction(NANO_OF_SECOND, 0, 9, true)
+                int digits = 9;
+                int value = nano;
+                while (value % 10 == 0) {
+                    value /= 10;
+                    digits--;
+                }
+                pos = putFraction(nano, digits, pos);
+            }
+        }
+        if (style == INSTANT) {
+            chars[pos++] = 'Z';
+        } else if (style == OFFSET_DATE_TIME) {
+            int totalSecs = offset.getTotalSeconds();
+            if (totalSecs == 0) {
+                chars[pos++] = 'Z';
+            } else {
+                int absSecs = Math.abs(totalSecs);
+                chars[pos++] = (totalSecs < 0 ? '-' : '+');
+                put2(absSecs / 3600, pos);
+                chars[pos + 2] = ':';
+                put2((absSecs / 60) % 60, pos + 3);
+                pos += 5;
+                if (absSecs % 60 != 0) {
+                    chars[pos] = ':';
+                    put2(absSecs % 60, pos + 1);
+                    pos += 3;
+                }
+            }
+        }
+        return pos;
+    }
+
+    private void put2(int value, int pos) {
+        chars[pos] = (char) ('0' + value / 10);
+        chars[pos + 1] = (char) ('0' + value % 10);
+    }
+
+    private int putFraction(int nano, int digits, int pos) {
+        int value = nano;
+        for (int i = 9; i > digits; i--) {
+            value /= 10;
+        }
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + digits;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A reusable temporal equivalent to a {@code ZonedDateTime}.
+     */
+    private static final class EpochTemporal extends DefaultInterfaceTemporalAccessor {
+        private final ZoneId zone;
+        private long epochSecond;
+        private LocalDateTime dateTime;
+        private ZoneOffset offset;
+
+        EpochTemporal(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        void set(long epochSecond, LocalDateTime dateTime, ZoneOffset offset) {
+            this.epochSecond = epochSecond;
+            this.dateTime = dateTime;
+            this.offset = offset;
+        }
+
+        @Override
+        public boolean isSupported(TemporalField field) {
+            return field instanceof ChronoField || (field != null && field.isSupportedBy(this));
+        }
+
+        @Override
+        public ValueRange range(TemporalField field) {
+            if (field instanceof ChronoField) {
+                if (field == INSTANT_SECONDS || field == OFFSET_SECONDS) {
+                    return field.range();
+                }
+                return dateTime.range(field);
+            }
+            return field.rangeRefinedBy(this);
+        }
+
+        @Override
+        public int get(TemporalField field) {
+            if (field instanceof ChronoField) {
+                switch ((ChronoField) field) {
+                    case INSTANT_SECONDS: throw new DateTimeException("Field too large for an int: " + field);
+                    case OFFSET_SECONDS: return offset.getTotalSeconds();
+                }
+                return dateTime.get(field);
+            }
+            return super.get(field);
+        }
+
+        @Override
+        public long getLong(TemporalField field) {
+            if (field instanceof ChronoField) {
+                switch ((ChronoField) field) {
+                    case INSTANT_SECONDS: return epochSecond;
+                    case OFFSET_SECONDS: return offset.getTotalSeconds();
+                }
+                return dateTime.getLong(field);
+            }
+            return field.getFrom(this);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <R> R query(TemporalQuery<R> query) {
+            if (query == TemporalQueries.zoneId() || query == TemporalQueries.zone()) {
+                return (R) zone;
+            } else if (query == TemporalQueries.chronology()) {
+                return (R) IsoChronology.INSTANCE;
+            } else if (query == TemporalQueries.precision()) {
+                return (R) NANOS;
+            } else if (query == TemporalQueries.offset()) {
+                return (R) offset;
+            } else if (query == TemporalQueries.localDate()) {
+                return (R) dateTime.toLocalDate();
+            } else if (query == TemporalQueries.localTime()) {
+                return (R) dateTime.toLocalTime();
+            }
+            return query.queryFrom(this);
+        }
+    }
+
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.HOUR_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.INSTANT_SECONDS;
+import static org.threeten.bp.temporal.ChronoField.MINUTE_OF_HOUR;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.NANO_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.OFFSET_SECONDS;
+import static org.threeten.bp.temporal.ChronoField.SECOND_OF_MINUTE;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR_OF_ERA;
+
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoUnit;
+
+/**
+ * Resolves simple ISO parse results directly to an epoch value.
+ * <p>
+ * The general resolving process in {@link DateTimeBuilder} creates date and time
+ * objects to combine the parsed fields. When the parsed fields are a plain
+ * year-month-day, optionally with hour-minute-second-nano and an offset, and all
+ * the values are valid, this class calculates the epoch value without creating any objects.
+ * For valid values, the result is the same in all resolver styles.
+ * Anything else is left to the general process, which produces the same
+ * result or exception as parsing to a date-time object.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+final class EpochResolver {
+
+    /**
+     * The result when the parsed fields cannot be resolved by this class.
+     */
+    static final long UNRESOLVED = Long.MIN_VALUE;
+    /**
+     * The number of days from year zero to year 1970.
+     */
+    private static final long DAYS_0000_TO_1970 = (146097L * 5L) - (30L * 365L + 7L);
+
+    /**
+     * Restricted constructor.
+     */
+    private EpochResolver() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Resolves the parsed ISO fields to an epoch value.
+     *
+     * @param fieldValues  the parsed fields, not null
+     * @param zone  the effective zone, null if none
+     * @param resolverStyle  the resolver style, not null
+     * @param unit  the unit of the result, one of {@code DAYS}, {@code SECONDS} or {@code MILLIS}
+     * @return the epoch-day, epoch-second or epoch-milli, {@code UNRESOLVED} if not resolved
+     */
+    static long resolve(FieldValueMap fieldValues, ZoneId zone, ResolverStyle resolverStyle, ChronoUnit unit) {
+        if (fieldValues.containsKey(INSTANT_SECONDS)) {
+            return resolveInstant(fieldValues, zone, unit);
+        }
+        int fieldCount = 3;
+        long year;
+        if (fieldValues.containsKey(YEAR)) {
+            year = fieldValues.getValue(YEAR);
+        } else if (fieldValues.containsKey(YEAR_OF_ERA) && resolverStyle != ResolverStyle.STRICT) {
+            // an era of CE is invented
+            year = fieldValues.getValue(YEAR_OF_ERA);
+            if (year < 1) {
+                return UNRESOLVED;
+            }
+        } else {
+            return UNRESOLVED;
+        }
+        if (fieldValues.containsKey(MONTH_OF_YEAR) == false || fieldValues.containsKey(DAY_OF_MONTH) == false) {
+            return UNRESOLVED;
+        }
+        long month = fieldValues.getValue(MONTH_OF_YEAR);
+        long day = fieldValues.getValue(DAY_OF_MONTH);
+        if (YEAR.range().isValidValue(year) == false || month < 1 || month > 12 || day < 1 ||
+                day > lengthOfMonth((int) year, (int) month)) {
+            return UNRESOLVED;
+        }
+        long epochDay = toEpochDay(year, month, day);
+
+        long secondOfDay = -1;
+        long nano = 0;
+        if (fieldValues.containsKey(HOUR_OF_DAY)) {
+            long hour = fieldValues.getValue(HOUR_OF_DAY);
+            if (hour < 0 || hour > 23) {
+                return UNRESOLVED;
+            }
+            fieldCount++;
+            long minute = 0;
+            long second = 0;
+            if (fieldValues.containsKey(MINUTE_OF_HOUR)) {
+                minute = fieldValues.getValue(MINUTE_OF_HOUR);
+                fieldCount++;
+                if (fieldValues.containsKey(SECOND_OF_MINUTE)) {
+                    second = fieldValues.getValue(SECOND_OF_MINUTE);
+                    fieldCount++;
+                    if (fieldValues.containsKey(NANO_OF_SECOND)) {
+                        nano = fieldValues.getValue(NANO_OF_SECOND);
+                        fieldCount++;
+                    }
+                }
+            }
+            if (minute < 0 || minute > 59 || second < 0 || second > 59 || nano < 0 || nano > 999999999) {
+                return UNRESOLVED;
+            }
+            secondOfDay = hour * 3600 + minute * 60 + second;
+        }
+
+        long offsetSecs = 0;
+        boolean hasOffset = false;
+        if (fieldValues.containsKey(OFFSET_SECONDS)) {
+            offsetSecs = fieldValues.getValue(OFFSET_SECONDS);
+            if (Math.abs(offsetSecs) > 18 * 3600) {
+                return UNRESOLVED;
+            }
+            hasOffset = true;
+            fieldCount++;
+        }
+        if (fieldValues.size() != fieldCount) {
+            return UNRESOLVED;  // other fields need cross-checking
+        }
+        if (unit == ChronoUnit.DAYS) {
+            return epochDay;
+        }
+        if (secondOfDay < 0) {
+            return UNRESOLVED;
+        }
+        if (zone instanceof ZoneOffset) {
+            offsetSecs = ((ZoneOffset) zone).getTotalSeconds();
+        } else if (zone != null || hasOffset == false) {
+            return UNRESOLVED;
+        }
+        long epochSecond = epochDay * 86400 + secondOfDay - offsetSecs;
+        return toUnit(epochSecond, nano, unit);
+    }
+
+    /**
+     * Resolves a parsed instant, such as that parsed by {@link DateTimeFormatter#ISO_INSTANT}.
+     */
+    private static long resolveInstant(FieldValueMap fieldValues, ZoneId zone, ChronoUnit unit) {
+        if (zone != null || fieldValues.containsKey(OFFSET_SECONDS) || unit == ChronoUnit.DAYS) {
+            return UNRESOLVED;
+        }
+        int fieldCount = 1;
+        long nano = 0;
+        if (fieldValues.containsKey(NANO_OF_SECOND)) {
+            nano = fieldValues.getValue(NANO_OF_SECOND);
+            if (nano < 0 || nano > 999999999) {
+                return UNRESOLVED;
+            }
+            fieldCount++;
+        }
+        if (fieldValues.size() != fieldCount) {
+            return UNRESOLVED;
+        }
+        long epochSecond = fieldValues.getValue(INSTANT_SECONDS);
+        if (epochSecond < -31557014167219200L || epochSecond > 31556889864403199L) {
+            return UNRESOLVED;  // outside the range of Instant
+        }
+        return toUnit(epochSecond, nano, unit);
+    }
+
+    private static long toUnit(long epochSecond, long nano, ChronoUnit unit) {
+        if (unit == ChronoUnit.SECONDS) {
+            return epochSecond;
+        }
+        long millis = Jdk8Methods.safeMultiply(epochSecond, 1000);
+        return Jdk8Methods.safeAdd(millis, nano / 1000000);
+    }
+
+    //-----------------------------------------------------------------------
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (IsoChronology.INSTANCE.isLeapYear(year) ? 29 : 28);
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static long toEpochDay(long y, long m, long day) {
+        long total = 0;
+        total += 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += ((367 * m - 362) / 12);
+        total += day - 1;
+        if (m > 2) {
+            total--;
+            if (IsoChronology.INSTANCE.isLeapYear(y) == false) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.TemporalField;
+
+/**
+ * Map of field to value used during parsing and resolving.
+ * <p>
+ * The values of {@link ChronoField} keys are stored in a {@code long} array indexed
+ * by ordinal, with a bitmask recording which fields are present.
+ * Other fields are stored in a {@code HashMap} that is only created when needed.
+ * This avoids creating a {@code Long} and a map entry for each parsed field.
+ * The {@code Map} interface is still provided as it is needed by
+ * {@link TemporalField#resolve} and {@link org.threeten.bp.chrono.Chronology#resolveDate}.
+ * <p>
+ * The {@code ChronoField} entries are iterated in ordinal order, followed by the other fields.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ * It should only be used from a single thread.
+ */
+final class FieldValueMap extends AbstractMap<TemporalField, Long> {
+
+    /**
+     * The fields, indexed by ordinal.
+     */
+    private static final ChronoField[] FIELDS = ChronoField.values();
+    static {
+        if (FIELDS.length > 64) {
+            throw new IllegalStateException("Too many fields for bitmask");
+        }
+    }
+
+    /**
+     * The values of the {@code ChronoField} keys, indexed by ordinal.
+     */
+    private final long[] values = new long[FIELDS.length];
+    /**
+     * The bitmask of {@code ChronoField} keys that are present.
+     */
+    private long present;
+    /**
+     * The values of other fields, null if none have been added.
+     */
+    private Map<TemporalField, Long> others;
+
+    /**
+     * Creates an empty map.
+     */
+    FieldValueMap() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the value of a field without boxing.
+     *
+     * @param field  the field to query, not null
+     * @return the value of the field
+     * @throws NullPointerException if the field is not present
+     */
+    long getValue(TemporalField field) {
+        if (field instanceof ChronoField) {
+            int ordinal = ((ChronoField) field).ordinal();
+            if ((present & (1L << ordinal)) == 0) {
+                throw new NullPointerException("Field not present: " + field);
+            }
+            return values[ordinal];
+        }
+        if (others == null) {
+            throw new NullPointerException("Field not present: " + field);
+        }
+        return others.get(field);
+    }
+
+    /**
+     * Stores the value of a field without boxing, replacing any previous value.
+     *
+     * @param field  the field to store, not null
+     * @param value  the value to store
+     */
+    void putValue(TemporalField field, long value) {
+        if (field instanceof ChronoField) {
+            int ordinal = ((ChronoField) field).ordinal();
+            values[ordinal] = value;
+            present |= (1L << ordinal);
+        } else {
+            Jdk8Methods.requireNonNull(field, "field");
+            if (others == null) {
+                others = new HashMap<TemporalField, Long>();
+            }
+            others.put(field, value);
+        }
+    }
+
+    /**
+     * Removes the value of a field without boxing.
+     *
+     * @param field  the field to remove, not null
+     * @return the value of the removed field
+     * @throws NullPointerException if the field is not present
+     */
+    long removeValue(TemporalField field) {
+        long value = getValue(field);
+        removeField(field);
+        return value;
+    }
+
+    /**
+     * Removes a field without boxing the value.
+     *
+     * @param field  the field to remove, not null
+     * @return true if the field was present
+     */
+    boolean removeField(TemporalField field) {
+        if (field instanceof ChronoField) {
+            long bit = 1L << ((ChronoField) field).ordinal();
+            boolean removed = (present & bit) != 0;
+            present &= ~bit;
+            return removed;
+        }
+        return others != null && others.remove(field) != null;
+    }
+
+    /**
+     * Gets the entries for fields that are not a {@code ChronoField}.
+     * <p>
+     * These are the only fields that have custom resolving logic.
+     *
+     * @return the entries of the other fields, not null
+     */
+    Set<Entry<TemporalField, Long>> otherEntrySet() {
+        if (others == null) {
+            return Collections.emptySet();
+        }
+        return others.entrySet();
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public int size() {
+        return Long.bitCount(present) + (others != null ? others.size() : 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return present == 0 && (others == null || others.isEmpty());
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (key instanceof ChronoField) {
+            return (present & (1L << ((ChronoField) key).ordinal())) != 0;
+        }
+        return others != null && others.containsKey(key);
+    }
+
+    @Override
+    public Long get(Object key) {
+        if (key instanceof ChronoField) {
+            int ordinal = ((ChronoField) key).ordinal();
+            return (present & (1L << ordinal)) != 0 ? values[ordinal] : null;
+        }
+        return others != null ? others.get(key) : null;
+    }
+
+    @Override
+    public Long put(TemporalField field, Long value) {
+        Jdk8Methods.requireNonNull(value, "value");
+        Long old = get(field);
+        putValue(field, value);
+        return old;
+    }
+
+    @Override
+    public Long remove(Object key) {
+        if (key instanceof ChronoField) {
+            int ordinal = ((ChronoField) key).ordinal();
+            return removeField((ChronoField) key) ? values[ordinal] : null;
+        }
+        return others != null ? others.remove(key) : null;
+    }
+
+    @Override
+    public void putAll(Map<? extends TemporalField, ? extends Long> map) {
+        if (map instanceof FieldValueMap) {
+            FieldValueMap other = (FieldValueMap) map;
+            for (long bits = other.present; bits != 0; bits &= bits - 1) {
+                int ordinal = Long.numberOfTrailingZeros(bits);
+                values[ordinal] = other.values[ordinal];
+            }
+            present |= other.present;
+            if (other.others != null && other.others.isEmpty() == false) {
+                if (others == null) {
+                    others = new HashMap<TemporalField, Long>();
+                }
+                others.putAll(other.others);
+            }
+        } else {
+            super.putAll(map);
+        }
+    }
+
+    @Override
+    public void clear() {
+        present = 0;
+        if (others != null) {
+            others.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<TemporalField, Long>> entrySet() {
+        return new AbstractSet<Entry<TemporalField, Long>>() {
+            @Override
+            public Iterator<Entry<TemporalField, Long>> iterator() {
+                return new EntryIterator();
+            }
+            @Override
+            public int size() {
+                return FieldValueMap.this.size();
+            }
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the next present {@code ChronoField} ordinal.
+     *
+     * @param from  the ordinal to search from
+     * @return the ordinal, or the number of fields if there are no more
+     */
+    private int nextOrdinal(int from) {
+        long bits = (from < FIELDS.length ? present & (-1L << from) : 0);
+        return (bits == 0 ? FIELDS.length : Long.numberOfTrailingZeros(bits));
+    }
+
+    /**
+     * Iterator over the entries, reading the bitmask as it progresses.
+     */
+    private final class EntryIterator implements Iterator<Entry<TemporalField, Long>> {
+        private int next = nextOrdinal(0);
+        /**
+         * The ordinal of the last field returned, -1 if none, -2 if from the other fields.
+         */
+        private int last = -1;
+        private Iterator<Entry<TemporalField, Long>> otherIterator;
+
+        @Override
+        public boolean hasNext() {
+            if (next < FIELDS.length) {
+                return true;
+            }
+            return otherIterator().hasNext();
+        }
+
+        @Override
+        public Entry<TemporalField, Long> next() {
+            if (next < FIELDS.length) {
+                last = next;
+                next = nextOrdinal(next + 1);
+                return new FieldEntry(FIELDS[last]);
+            }
+            Entry<TemporalField, Long> entry = otherIterator().next();
+            last = -2;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (last >= 0) {
+                present &= ~(1L << last);
+                last = -1;
+            } else if (last == -2) {
+                otherIterator.remove();
+                last = -1;
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+        private Iterator<Entry<TemporalField, Long>> otherIterator() {
+            if (otherIterator == null) {
+                otherIterator = otherEntrySet().iterator();
+            }
+            return otherIterator;
+        }
+    }
+
+    /**
+     * Entry for a {@code ChronoField}, reading and writing through to the map.
+     */
+    private final class FieldEntry implements Entry<TemporalField, Long> {
+        private final ChronoField field;
+
+        private FieldEntry(ChronoField field) {
+            this.field = field;
+        }
+
+        @Override
+        public TemporalField getKey() {
+            return field;
+        }
+
+        @Override
+        public Long getValue() {
+            if (containsKey(field) == false) {
+                throw new NoSuchElementException("Field has been removed: " + field);
+            }
+            return values[field.ordinal()];
+        }
+
+        @Override
+        public Long setValue(Long value) {
+            return put(field, value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof Entry) {
+                Entry<?, ?> other = (Entry<?, ?>) obj;
+                return field.equals(other.getKey()) && getValue().equals(other.getValue());
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return field.hashCode() ^ getValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return field + "=" + getValue();
+        }
+    }
+
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.threeten.bp.temporal.ChronoField.INSTANT_SECONDS;
+import static org.threeten.bp.temporal.ChronoField.MICRO_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.MILLI_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.NANO_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.OFFSET_SECONDS;
+
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.Period;
+import org.threeten.bp.chrono.IsoChronology;
+
+/**
+ * Fast parser for the common ISO-8601 formatter constants.
+ * <p>
+ * The general parser handles the optional sections of formats such as
+ * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} by copying the parse context,
+ * and then resolves the parsed fields in a separate phase.
+ * This class instead recognizes the common form of the text character by character,
+ * validating it and creating the resolved date and time in a single pass.
+ * <p>
+ * The fast path only accepts text that is exactly a four digit year, two digit
+ * month and day, two digit hour, minute and optional second, an optional fraction
+ * of one to nine digits and, where required, an offset of 'Z' or '+HH:MM'.
+ * All values must be valid, with no leap second or end of day time of 24:00.
+ * Anything else, including text that is invalid, returns null so that the general
+ * parser is used, ensuring that the result and any exception are unchanged.
+ * The state of the returned builder matches the state after the general parser has
+ * parsed and resolved the same text.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+final class IsoFastParser {
+
+    /**
+     * Parse a date.
+     */
+    private static final int DATE = 1;
+    /**
+     * Parse a time.
+     */
+    private static final int TIME = 2;
+    /**
+     * Parse an offset.
+     */
+    private static final int OFFSET = 4;
+    /**
+     * Parse an optional offset.
+     */
+    private static final int OPTIONAL_OFFSET = 8;
+    /**
+     * Parse an instant, where seconds are required and the offset must be 'Z'.
+     */
+    private static final int INSTANT = 16;
+    /**
+     * Length of 'yyyy-MM-dd'.
+     */
+    private static final int DATE_LENGTH = 10;
+
+    /**
+     * Restricted constructor.
+     */
+    private IsoFastParser() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses and resolves the text if the formatter is a supported ISO constant
+     * and the text is in the common form.
+     *
+     * @param formatter  the formatter, not null
+     * @param text  the text to parse, not null
+     * @param builder  the empty builder to populate, null to create one
+     * @return the resolved builder, null if the general parser must be used
+     */
+    static DateTimeBuilder parse(DateTimeFormatter formatter, CharSequence text, DateTimeBuilder builder) {
+        int type;
+        if (formatter == DateTimeFormatter.ISO_LOCAL_DATE_TIME) {
+            type = DATE | TIME;
+        } else if (formatter == DateTimeFormatter.ISO_OFFSET_DATE_TIME || formatter == DateTimeFormatter.ISO_ZONED_DATE_TIME) {
+            type = DATE | TIME | OFFSET;
+        } else if (formatter == DateTimeFormatter.ISO_INSTANT) {
+            type = INSTANT;
+        } else if (formatter == DateTimeFormatter.ISO_LOCAL_DATE) {
+            type = DATE;
+        } else if (formatter == DateTimeFormatter.ISO_DATE_TIME) {
+            type = DATE | TIME | OPTIONAL_OFFSET;
+        } else if (formatter == DateTimeFormatter.ISO_LOCAL_TIME) {
+            type = TIME;
+        } else {
+            return null;
+        }
+        return parse(type, text, builder);
+    }
+
+    private static DateTimeBuilder parse(int type, CharSequence text, DateTimeBuilder builder) {
+        int length = text.length();
+        int pos = 0;
+        LocalDate date = null;
+        if ((type & (DATE | INSTANT)) != 0) {
+            if (length < DATE_LENGTH) {
+                return null;
+            }
+            int year = parseDigits(text, 0, 4);
+            int month = parseDigits(text, 5, 2);
+            int day = parseDigits(text, 8, 2);
+            if (year < 0 || month < 1 || month > 12 || day < 1 ||
+                    text.charAt(4) != '-' || text.charAt(7) != '-' ||
+                    day > lengthOfMonth(year, month)) {
+                return null;
+            }
+            date = LocalDate.of(year, month, day);
+            pos = DATE_LENGTH;
+            if ((type & (TIME | INSTANT)) != 0) {
+                if (pos == length || text.charAt(pos) != 'T') {
+                    return null;
+                }
+                pos++;
+            }
+        }
+
+        LocalTime time = null;
+        if ((type & (TIME | INSTANT)) != 0) {
+            if (pos + 5 > length || text.charAt(pos + 2) != ':') {
+                return null;
+            }
+            int hour = parseDigits(text, pos, 2);
+            int minute = parseDigits(text, pos + 3, 2);
+            if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+                return null;
+            }
+            pos += 5;
+            int second = 0;
+            int nano = 0;
+            if (pos < length && text.charAt(pos) == ':') {
+                if (pos + 3 > length) {
+                    return null;
+                }
+                second = parseDigits(text, pos + 1, 2);
+                if (second < 0 || second > 59) {
+                    return null;
+                }
+                pos += 3;
+                if (pos < length && text.charAt(pos) == '.') {
+                    pos++;
+                    int digits = 0;
+                    while (pos < length && digits < 9) {
+                        int digit = text.charAt(pos) - '0';
+                        if (digit < 0 || digit > 9) {
+                            break;
+                        }
+                        nano = nano * 10 + digit;
+                        digits++;
+                        pos++;
+                    }
+                    if (digits == 0) {
+                        return null;
+                    }
+                    for ( ; digits < 9; digits++) {
+                        nano *= 10;
+                    }
+                }
+            } else if ((type & INSTANT) != 0) {
+                return null;
+            }
+            time = LocalTime.of(hour, minute, second, nano);
+        }
+
+        int offsetSecs = 0;
+        boolean hasOffset = false;
+        if ((type & INSTANT) != 0) {
+            if (pos == length || text.charAt(pos) != 'Z') {
+                return null;
+            }
+            pos++;
+        } else if ((type & (OFFSET | OPTIONAL_OFFSET)) != 0 && pos < length) {
+            char sign = text.charAt(pos);
+            if (sign == 'Z') {
+                pos++;
+            } else if (sign == '+' || sign == '-') {
+                if (pos + 6 > length || text.charAt(pos + 3) != ':') {
+                    return null;
+                }
+                int hours = parseDigits(text, pos + 1, 2);
+                int minutes = parseDigits(text, pos + 4, 2);
+                if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59 || (hours == 18 && minutes > 0)) {
+                    return null;
+                }
+                offsetSecs = hours * 3600 + minutes * 60;
+                if (sign == '-') {
+                    offsetSecs = -offsetSecs;
+                }
+                pos += 6;
+            } else {
+                return null;
+            }
+            hasOffset = true;
+        } else if ((type & OFFSET) != 0) {
+            return null;
+        }
+        if (pos != length) {
+            return null;
+        }
+
+        if (builder == null) {
+            builder = new DateTimeBuilder();
+        }
+        builder.chrono = IsoChronology.INSTANCE;
+        builder.excessDays = Period.ZERO;
+        if ((type & INSTANT) != 0) {
+            // an instant is not resolved to a date and time
+            builder.fieldValues.putValue(INSTANT_SECONDS, date.toEpochDay() * 86400 + time.toSecondOfDay());
+            builder.fieldValues.putValue(NANO_OF_SECOND, time.getNano());
+            builder.fieldValues.putValue(MICRO_OF_SECOND, time.getNano() / 1000);
+            builder.fieldValues.putValue(MILLI_OF_SECOND, time.getNano() / 1000000);
+            return builder;
+        }
+        builder.addObject(date);
+        builder.addObject(time);
+        if (hasOffset) {
+            builder.fieldValues.putValue(OFFSET_SECONDS, offsetSecs);
+            builder.fieldValues.putValue(INSTANT_SECONDS, date.toEpochDay() * 86400 + time.toSecondOfDay() - offsetSecs);
+        }
+        return builder;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses a fixed number of ASCII digits.
+     *
+     * @param text  the text to parse, not null
+     * @param pos  the position to start at, within the text
+     * @param count  the number of digits, from 1 to 4
+     * @return the parsed value, negative if not all the characters are digits
+     */
+    private static int parseDigits(CharSequence text, int pos, int count) {
+        int value = 0;
+        for (int i = pos; i < pos + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (IsoChronology.INSTANCE.isLeapYear(year) ? 29 : 28);
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+}
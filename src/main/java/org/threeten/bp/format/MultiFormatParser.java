@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.threeten.bp.format.DateTimeFormatterBuilder.ParseFilter;
+import org.threeten.bp.format.DateTimeParseContext.Parsed;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalQuery;
+
+/**
+ * Parser that accepts text in any one of a number of formats.
+ * <p>
+ * Text received in several layouts is often parsed by trying each formatter in turn,
+ * catching the {@link DateTimeParseException} thrown by each formatter that does not match.
+ * This class tries the formatters in the same order, but without creating exceptions for
+ * the formatters that do not match. In addition, each formatter is examined when the parser
+ * is created to determine the leading characters and minimum length of text it can parse.
+ * This allows the parser to skip any formatter that cannot match without parsing, for example:
+ * <pre>
+ *  MultiFormatParser parser = MultiFormatParser.of(
+ *      DateTimeFormatter.ISO_LOCAL_DATE,
+ *      DateTimeFormatter.ofPattern("dd/MM/uuuu"),
+ *      DateTimeFormatter.ofPattern("MMM d, uuuu", Locale.ENGLISH));
+ *  LocalDate date = parser.parse(text, LocalDate.FROM);
+ * </pre>
+ * The text must be fully parsed by one formatter, and the result of the first
+ * formatter that successfully parses and resolves the text is returned.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class MultiFormatParser {
+
+    /**
+     * The formatters, not null.
+     */
+    private final DateTimeFormatter[] formatters;
+    /**
+     * The filters, in the same order as the formatters.
+     */
+    private final ParseFilter[] filters;
+    /**
+     * The indexes of the formatters that may parse text with each ASCII leading character.
+     */
+    private final int[][] candidates;
+    /**
+     * The indexes of all the formatters.
+     */
+    private final int[] allCandidates;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a parser that tries each of the specified formatters in order.
+     *
+     * @param formatters  the formatters to try, not null, not empty
+     * @return the parser, not null
+     * @throws IllegalArgumentException if no formatters are specified
+     */
+    public static MultiFormatParser of(DateTimeFormatter... formatters) {
+        Jdk8Methods.requireNonNull(formatters, "formatters");
+        if (formatters.length == 0) {
+            throw new IllegalArgumentException("At least one formatter must be specified");
+        }
+        DateTimeFormatter[] array = formatters.clone();
+        for (DateTimeFormatter formatter : array) {
+            Jdk8Methods.requireNonNull(formatter, "formatter");
+        }
+        return new MultiFormatParser(array);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param formatters  the formatters to try, not null
+     */
+    private MultiFormatParser(DateTimeFormatter[] formatters) {
+        this.formatters = formatters;
+        this.filters = new ParseFilter[formatters.length];
+        this.allCandidates = new int[formatters.length];
+        for (int i = 0; i < formatters.length; i++) {
+            filters[i] = ParseFilter.of(formatters[i].toPrinterParser(false), formatters[i].getDecimalStyle());
+            allCandidates[i] = i;
+        }
+        this.candidates = new int[128][];
+        int[] indexes = new int[formatters.length];
+        for (char ch = 0; ch < candidates.length; ch++) {
+            int count = 0;
+            for (int i = 0; i < formatters.length; i++) {
+                if (filters[i].acceptsLeading(ch)) {
+                    indexes[count++] = i;
+                }
+            }
+            candidates[ch] = (count == formatters.length ? allCandidates : Arrays.copyOf(indexes, count));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the formatters, in the order they are tried.
+     *
+     * @return the formatters, not null
+     */
+    public List<DateTimeFormatter> getFormatters() {
+        return Collections.unmodifiableList(new ArrayList<DateTimeFormatter>(Arrays.asList(formatters)));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Fully parses the text producing a temporal object.
+     * <p>
+     * This returns the resolved result of the first formatter that parses the
+     * entire text, as per {@link DateTimeFormatter#parse(CharSequence)}.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed temporal object, not null
+     * @throws DateTimeParseException if no formatter can parse the text
+     */
+    public TemporalAccessor parse(CharSequence text) {
+        return parse(text, null);
+    }
+
+    /**
+     * Fully parses the text producing an object of the specified type.
+     * <p>
+     * Each formatter that may be able to parse the text is tried in turn.
+     * The result of the first formatter that parses the entire text and
+     * resolves to the specified type is returned, as per
+     * {@link DateTimeFormatter#parse(CharSequence, TemporalQuery)}.
+     * If no formatter succeeds, a single exception is thrown.
+     *
+     * @param <T> the type of the parsed date-time
+     * @param text  the text to parse, not null
+     * @param type  the type to extract, null to return the resolved temporal
+     * @return the parsed date-time, not null
+     * @throws DateTimeParseException if no formatter can parse the text
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T parse(CharSequence text, TemporalQuery<T> type) {
+        Jdk8Methods.requireNonNull(text, "text");
+        int errorIndex = 0;
+        RuntimeException lastError = null;
+        for (int i : candidates(text, 0)) {
+            DateTimeFormatter formatter = formatters[i];
+            if (filters[i].accepts(text, 0) == false) {
+                continue;
+            }
+            try {
+                DateTimeBuilder builder = IsoFastParser.parse(formatter, text, null);
+                if (builder != null) {
+                    return (type != null ? builder.build(type) : (T) builder);
+                }
+                ParsePosition pos = new ParsePosition(0);
+                Parsed parsed = formatter.parseUnresolved0(new DateTimeParseContext(formatter), text, pos);
+                if (parsed == null || pos.getErrorIndex() >= 0 || pos.getIndex() < text.length()) {
+                    errorIndex = Math.max(errorIndex, errorIndex(pos));
+                    continue;
+                }
+                builder = parsed.toBuilder();
+                builder.resolve(formatter.getResolverStyle(), formatter.getResolverFields());
+                return (type != null ? builder.build(type) : (T) builder);
+            } catch (RuntimeException ex) {
+                lastError = ex;  // try the next formatter
+            }
+        }
+        String abbr = "";
+        if (text.length() > 64) {
+            abbr = text.subSequence(0, 64).toString() + "...";
+        } else {
+            abbr = text.toString();
+        }
+        if (lastError != null) {
+            throw new DateTimeParseException("Text '" + abbr + "' could not be parsed: " + lastError.getMessage(), text, 0, lastError);
+        }
+        throw new DateTimeParseException("Text '" + abbr + "' could not be parsed by any format, furthest error at index " +
+                errorIndex, text, errorIndex);
+    }
+
+    /**
+     * Parses the text without resolving the result, returning null if
+     * no formatter can parse the text.
+     * <p>
+     * Each formatter that may be able to parse the text is tried in turn, as per
+     * {@link DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)}.
+     * The result of the first formatter that parses to the end of the text is returned,
+     * with the index of the position updated to the end of the text.
+     * If no formatter can parse the text, null is returned with the error index
+     * set to the furthest index that any formatter reached.
+     * No exception is created when a formatter does not match.
+     *
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from, updated with length parsed
+     *  and the index of any error, not null
+     * @return the parsed text, null if no formatter can parse the text
+     * @throws IndexOutOfBoundsException if the position is invalid
+     */
+    public TemporalAccessor parseUnresolved(CharSequence text, ParsePosition position) {
+        Jdk8Methods.requireNonNull(text, "text");
+        Jdk8Methods.requireNonNull(position, "position");
+        int start = position.getIndex();
+        if (start < 0 || start > text.length()) {
+            throw new IndexOutOfBoundsException("Invalid position: " + start);
+        }
+        int errorIndex = start;
+        ParsePosition pos = new ParsePosition(start);
+        for (int i : candidates(text, start)) {
+            if (filters[i].accepts(text, start) == false) {
+                continue;
+            }
+            DateTimeFormatter formatter = formatters[i];
+            pos.setIndex(start);
+            pos.setErrorIndex(-1);
+            Parsed parsed = formatter.parseUnresolved0(new DateTimeParseContext(formatter), text, pos);
+            if (parsed != null && pos.getErrorIndex() < 0 && pos.getIndex() == text.length()) {
+                position.setIndex(pos.getIndex());
+                return parsed;
+            }
+            errorIndex = Math.max(errorIndex, errorIndex(pos));
+        }
+        position.setErrorIndex(errorIndex);
+        return null;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the indexes of the formatters that may be able to parse the text.
+     *
+     * @param text  the text, not null
+     * @param position  the position to parse from
+     * @return the formatter indexes, not null
+     */
+    private int[] candidates(CharSequence text, int position) {
+        if (position < text.length()) {
+            char ch = text.charAt(position);
+            if (ch < candidates.length) {
+                return candidates[ch];
+            }
+        }
+        return allCandidates;
+    }
+
+    private static int errorIndex(ParsePosition pos) {
+        return (pos.getErrorIndex() >= 0 ? pos.getErrorIndex() : pos.getIndex());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a description of the parser.
+     *
+     * @return a description of this parser, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder("MultiFormat[");
+        for (int i = 0; i < formatters.length; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append(formatters[i]);
+        }
+        return buf.append(']').toString();
+    }
+
+}
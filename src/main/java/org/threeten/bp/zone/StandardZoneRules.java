@@ -39,8 +39,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
@@ -54,6 +53,10 @@ import org.threeten.bp.jdk8.Jdk8Methods;
  * The rules describing how the zone offset varies through the year and historically.
  * <p>
  * This class is used by the TZDB time-zone rules.
+ * <p>
+ * The historic transitions are held as primitive arrays of epoch-seconds, with each
+ * offset held as an index into the small array of distinct offsets used by the zone.
+ * Transition objects are only created when returned from a method.
  *
  * <h3>Specification for implementors</h3>
  * This class is immutable and thread-safe.
@@ -65,41 +68,49 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
      */
     private static final long serialVersionUID = 3044319355680032515L;
     /**
-     * The last year to have its transitions cached.
+     * The average number of seconds in a year, used to estimate the year of an instant.
+     */
+    private static final long SECONDS_PER_YEAR = 31556952L;
+    /**
+     * The number of years in the cache of recent transitions, a power of two.
+     * This also limits the number of years that may be warmed up at once.
      */
-    private static final int LAST_CACHED_YEAR = 2100;
+    static final int YEAR_CACHE_SIZE = 128;
 
     /**
      * The transitions between standard offsets (epoch seconds), sorted.
      */
     private final long[] standardTransitions;
     /**
-     * The standard offsets.
+     * The standard offsets, as indices into the distinct offsets.
      */
-    private final ZoneOffset[] standardOffsets;
+    private final byte[] standardOffsets;
     /**
      * The transitions between instants (epoch seconds), sorted.
      */
     private final long[] savingsInstantTransitions;
     /**
-     * The transitions between local date-times, sorted.
+     * The transitions between local date-times (local epoch-seconds), sorted.
      * This is a paired array, where the first entry is the start of the transition
      * and the second entry is the end of the transition.
      */
-    private final LocalDateTime[] savingsLocalTransitions;
+    private final long[] savingsLocalTransitions;
     /**
-     * The wall offsets.
+     * The wall offsets, as indices into the distinct offsets.
      */
-    private final ZoneOffset[] wallOffsets;
+    private final byte[] wallOffsets;
+    /**
+     * The distinct standard and wall offsets, at most 256.
+     */
+    private final ZoneOffset[] offsets;
     /**
      * The last rule.
      */
     private final ZoneOffsetTransitionRule[] lastRules;
     /**
-     * The map of recent transitions.
+     * The cache of recent transitions, indexed by year modulo the size, lazily initialized.
      */
-    private final ConcurrentMap<Integer, ZoneOffsetTransition[]> lastRulesCache =
-                new ConcurrentHashMap<Integer, ZoneOffsetTransition[]>();
+    private transient volatile AtomicReferenceArray<YearTransitions> lastRulesCache;
 
     /**
      * Creates an instance.
@@ -120,36 +131,28 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
 
         // convert standard transitions
         this.standardTransitions = new long[standardOffsetTransitionList.size()];
-        this.standardOffsets = new ZoneOffset[standardOffsetTransitionList.size() + 1];
-        this.standardOffsets[0] = baseStandardOffset;
+        ZoneOffset[] standardOffsets = new ZoneOffset[standardOffsetTransitionList.size() + 1];
+        standardOffsets[0] = baseStandardOffset;
         for (int i = 0; i < standardOffsetTransitionList.size(); i++) {
             this.standardTransitions[i] = standardOffsetTransitionList.get(i).toEpochSecond();
-            this.standardOffsets[i + 1] = standardOffsetTransitionList.get(i).getOffsetAfter();
+            standardOffsets[i + 1] = standardOffsetTransitionList.get(i).getOffsetAfter();
         }
 
-        // convert savings transitions to locals
-        List<LocalDateTime> localTransitionList = new ArrayList<LocalDateTime>();
-        List<ZoneOffset> localTransitionOffsetList = new ArrayList<ZoneOffset>();
-        localTransitionOffsetList.add(baseWallOffset);
-        for (ZoneOffsetTransition trans : transitionList) {
-            if (trans.isGap()) {
-                localTransitionList.add(trans.getDateTimeBefore());
-                localTransitionList.add(trans.getDateTimeAfter());
-            } else {
-                localTransitionList.add(trans.getDateTimeAfter());
-                localTransitionList.add(trans.getDateTimeBefore());
-            }
-            localTransitionOffsetList.add(trans.getOffsetAfter());
-        }
-        this.savingsLocalTransitions = localTransitionList.toArray(new LocalDateTime[localTransitionList.size()]);
-        this.wallOffsets = localTransitionOffsetList.toArray(new ZoneOffset[localTransitionOffsetList.size()]);
-
         // convert savings transitions to instants
         this.savingsInstantTransitions = new long[transitionList.size()];
+        ZoneOffset[] wallOffsets = new ZoneOffset[transitionList.size() + 1];
+        wallOffsets[0] = baseWallOffset;
         for (int i = 0; i < transitionList.size(); i++) {
             this.savingsInstantTransitions[i] = transitionList.get(i).getInstant().getEpochSecond();
+            wallOffsets[i + 1] = transitionList.get(i).getOffsetAfter();
         }
 
+        // convert offsets and savings transitions to locals
+        this.offsets = distinctOffsets(standardOffsets, wallOffsets);
+        this.standardOffsets = indices(standardOffsets, offsets);
+        this.wallOffsets = indices(wallOffsets, offsets);
+        this.savingsLocalTransitions = localTransitions(savingsInstantTransitions, wallOffsets);
+
         // last rules
         if (lastRules.size() > 15) {
             throw new IllegalArgumentException("Too many transition rules");
@@ -175,26 +178,96 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         super();
 
         this.standardTransitions = standardTransitions;
-        this.standardOffsets = standardOffsets;
         this.savingsInstantTransitions = savingsInstantTransitions;
-        this.wallOffsets = wallOffsets;
         this.lastRules = lastRules;
 
-        // convert savings transitions to locals
-        List<LocalDateTime> localTransitionList = new ArrayList<LocalDateTime>();
-        for (int i = 0; i < savingsInstantTransitions.length; i++) {
-            ZoneOffset before = wallOffsets[i];
-            ZoneOffset after = wallOffsets[i + 1];
-            ZoneOffsetTransition trans = new ZoneOffsetTransition(savingsInstantTransitions[i], before, after);
-            if (trans.isGap()) {
-                localTransitionList.add(trans.getDateTimeBefore());
-                localTransitionList.add(trans.getDateTimeAfter());
-            } else {
-                localTransitionList.add(trans.getDateTimeAfter());
-                localTransitionList.add(trans.getDateTimeBefore());
+        // convert offsets and savings transitions to locals
+        this.offsets = distinctOffsets(standardOffsets, wallOffsets);
+        this.standardOffsets = indices(standardOffsets, offsets);
+        this.wallOffsets = indices(wallOffsets, offsets);
+        this.savingsLocalTransitions = localTransitions(savingsInstantTransitions, wallOffsets);
+    }
+
+    /**
+     * Obtains the distinct offsets used by the zone.
+     *
+     * @param standardOffsets  the standard offsets, not null
+     * @param wallOffsets  the wall offsets, not null
+     * @return the distinct offsets, not null
+     */
+    private static ZoneOffset[] distinctOffsets(ZoneOffset[] standardOffsets, ZoneOffset[] wallOffsets) {
+        List<ZoneOffset> list = new ArrayList<ZoneOffset>();
+        for (ZoneOffset offset : standardOffsets) {
+            if (list.contains(offset) == false) {
+                list.add(offset);
+            }
+        }
+        for (ZoneOffset offset : wallOffsets) {
+            if (list.contains(offset) == false) {
+                list.add(offset);
             }
         }
-        this.savingsLocalTransitions = localTransitionList.toArray(new LocalDateTime[localTransitionList.size()]);
+        if (list.size() > 256) {
+            throw new IllegalArgumentException("Too many distinct offsets");
+        }
+        return list.toArray(new ZoneOffset[list.size()]);
+    }
+
+    /**
+     * Converts the offsets to indices into the distinct offsets.
+     *
+     * @param values  the offsets, not null
+     * @param offsets  the distinct offsets, containing every value, not null
+     * @return the index of each offset, not null
+     */
+    private static byte[] indices(ZoneOffset[] values, ZoneOffset[] offsets) {
+        List<ZoneOffset> list = Arrays.asList(offsets);
+        byte[] indices = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            indices[i] = (byte) list.indexOf(values[i]);
+        }
+        return indices;
+    }
+
+    /**
+     * Converts the savings transitions to local epoch-seconds.
+     * <p>
+     * Each transition is converted to a pair, where the first entry is the start
+     * of the gap or overlap and the second entry is the end.
+     *
+     * @param savingsInstantTransitions  the transition epoch-seconds, not null
+     * @param wallOffsets  the wall offsets, one more than the transitions, not null
+     * @return the local transitions, not null
+     */
+    private static long[] localTransitions(long[] savingsInstantTransitions, ZoneOffset[] wallOffsets) {
+        long[] locals = new long[savingsInstantTransitions.length * 2];
+        for (int i = 0; i < savingsInstantTransitions.length; i++) {
+            int before = wallOffsets[i].getTotalSeconds();
+            int after = wallOffsets[i + 1].getTotalSeconds();
+            locals[i * 2] = savingsInstantTransitions[i] + Math.min(before, after);
+            locals[i * 2 + 1] = savingsInstantTransitions[i] + Math.max(before, after);
+        }
+        return locals;
+    }
+
+    /**
+     * Gets the standard offset at the specified index.
+     *
+     * @param index  the index into the standard offsets
+     * @return the offset, not null
+     */
+    private ZoneOffset standardOffset(int index) {
+        return offsets[standardOffsets[index] & 0xFF];
+    }
+
+    /**
+     * Gets the wall offset at the specified index.
+     *
+     * @param index  the index into the wall offsets
+     * @return the offset, not null
+     */
+    private ZoneOffset wallOffset(int index) {
+        return offsets[wallOffsets[index] & 0xFF];
     }
 
     //-----------------------------------------------------------------------
@@ -218,15 +291,15 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         for (long trans : standardTransitions) {
             Ser.writeEpochSec(trans, out);
         }
-        for (ZoneOffset offset : standardOffsets) {
-            Ser.writeOffset(offset, out);
+        for (int i = 0; i < standardOffsets.length; i++) {
+            Ser.writeOffset(standardOffset(i), out);
         }
         out.writeInt(savingsInstantTransitions.length);
         for (long trans : savingsInstantTransitions) {
             Ser.writeEpochSec(trans, out);
         }
-        for (ZoneOffset offset : wallOffsets) {
-            Ser.writeOffset(offset, out);
+        for (int i = 0; i < wallOffsets.length; i++) {
+            Ser.writeOffset(wallOffset(i), out);
         }
         out.writeByte(lastRules.length);
         for (ZoneOffsetTransitionRule rule : lastRules) {
@@ -282,16 +355,14 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         // check if using last rules
         if (lastRules.length > 0 &&
                 epochSec > savingsInstantTransitions[savingsInstantTransitions.length - 1]) {
-            int year = findYear(epochSec, wallOffsets[wallOffsets.length - 1]);
-            ZoneOffsetTransition[] transArray = findTransitionArray(year);
-            ZoneOffsetTransition trans = null;
-            for (int i = 0; i < transArray.length; i++) {
-                trans = transArray[i];
-                if (epochSec < trans.toEpochSecond()) {
-                    return trans.getOffsetBefore();
+            YearTransitions yearTrans = findYearTransitions(epochSec, wallOffset(wallOffsets.length - 1).getTotalSeconds());
+            long[] epochSeconds = yearTrans.epochSeconds;
+            for (int i = 0; i < epochSeconds.length; i++) {
+                if (epochSec < epochSeconds[i]) {
+                    return yearTrans.transitions[i].getOffsetBefore();
                 }
             }
-            return trans.getOffsetAfter();
+            return yearTrans.transitions[epochSeconds.length - 1].getOffsetAfter();
         }
 
         // using historic rules
@@ -300,7 +371,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
             // switch negative insert position to start of matched range
             index = -index - 2;
         }
-        return wallOffsets[index + 1];
+        return wallOffset(index + 1);
     }
 
     //-----------------------------------------------------------------------
@@ -330,81 +401,88 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
     }
 
     private Object getOffsetInfo(LocalDateTime dt) {
+        // the local transitions never have a nano-of-second, so flooring to seconds
+        // only matters when checking if the date-time is after the last transition
+        long localSec = dt.toEpochSecond(ZoneOffset.UTC);
+
         // check if using last rules
-        if (lastRules.length > 0 &&
-                dt.isAfter(savingsLocalTransitions[savingsLocalTransitions.length - 1])) {
-            ZoneOffsetTransition[] transArray = findTransitionArray(dt.getYear());
-            Object info = null;
-            for (ZoneOffsetTransition trans : transArray) {
-                info = findOffsetInfo(dt, trans);
-                if (info instanceof ZoneOffsetTransition || info.equals(trans.getOffsetBefore())) {
-                    return info;
-                }
-            }
-            return info;
+        if (lastRules.length > 0 && isAfterLastTransition(localSec, dt.getNano())) {
+            return findOffsetInfo(localSec, findYearTransitions(dt.getYear()));
         }
 
         // using historic rules
-        int index  = Arrays.binarySearch(savingsLocalTransitions, dt);
+        int index  = Arrays.binarySearch(savingsLocalTransitions, localSec);
         if (index == -1) {
             // before first transition
-            return wallOffsets[0];
+            return wallOffset(0);
         }
         if (index < 0) {
             // switch negative insert position to start of matched range
             index = -index - 2;
         } else if (index < savingsLocalTransitions.length - 1 &&
-                savingsLocalTransitions[index].equals(savingsLocalTransitions[index + 1])) {
+                savingsLocalTransitions[index] == savingsLocalTransitions[index + 1]) {
             // handle overlap immediately following gap
             index++;
         }
         if ((index & 1) == 0) {
-            // gap or overlap
-            LocalDateTime dtBefore = savingsLocalTransitions[index];
-            LocalDateTime dtAfter = savingsLocalTransitions[index + 1];
-            ZoneOffset offsetBefore = wallOffsets[index / 2];
-            ZoneOffset offsetAfter = wallOffsets[index / 2 + 1];
-            if (offsetAfter.getTotalSeconds() > offsetBefore.getTotalSeconds()) {
-                // gap
-                return new ZoneOffsetTransition(dtBefore, offsetBefore, offsetAfter);
-            } else {
-                // overlap
-                return new ZoneOffsetTransition(dtAfter, offsetBefore, offsetAfter);
-            }
+            // gap or overlap, where the local transition is the instant plus the offset before
+            ZoneOffset offsetBefore = wallOffset(index / 2);
+            ZoneOffset offsetAfter = wallOffset(index / 2 + 1);
+            return new ZoneOffsetTransition(savingsInstantTransitions[index / 2], offsetBefore, offsetAfter);
         } else {
             // normal (neither gap or overlap)
-            return wallOffsets[index / 2 + 1];
+            return wallOffset(index / 2 + 1);
         }
     }
 
     /**
-     * Finds the offset info for a local date-time and transition.
+     * Checks if the local date-time is after the last historic local transition.
      *
-     * @param dt  the date-time, not null
-     * @param trans  the transition, not null
+     * @param localSec  the local epoch-second of the date-time
+     * @param nano  the nano-of-second of the date-time
+     * @return true if after the last transition
+     */
+    private boolean isAfterLastTransition(long localSec, int nano) {
+        long lastLocal = savingsLocalTransitions[savingsLocalTransitions.length - 1];
+        return localSec > lastLocal || (localSec == lastLocal && nano > 0);
+    }
+
+    /**
+     * Finds the offset info for a local date-time using the transitions of its year.
+     * <p>
+     * The transitions are compared as local epoch-seconds, thus no objects
+     * are created unless the local date-time is in a gap or overlap.
+     *
+     * @param localSec  the local epoch-second of the date-time, floored to the second
+     * @param yearTrans  the transitions of the year of the date-time, not null
      * @return the offset info, not null
      */
-    private Object findOffsetInfo(LocalDateTime dt, ZoneOffsetTransition trans) {
-        LocalDateTime localTransition = trans.getDateTimeBefore();
-        if (trans.isGap()) {
-            if (dt.isBefore(localTransition)) {
-                return trans.getOffsetBefore();
-            }
-            if (dt.isBefore(trans.getDateTimeAfter())) {
-                return trans;
-            } else {
-                return trans.getOffsetAfter();
-            }
-        } else {
-            if (dt.isBefore(localTransition) == false) {
-                return trans.getOffsetAfter();
-            }
-            if (dt.isBefore(trans.getDateTimeAfter())) {
-                return trans.getOffsetBefore();
+    private Object findOffsetInfo(long localSec, YearTransitions yearTrans) {
+        // the transition local date-times never have a nano-of-second, so flooring to seconds is safe
+        ZoneOffsetTransition[] transArray = yearTrans.transitions;
+        for (int i = 0; i < transArray.length; i++) {
+            ZoneOffsetTransition trans = transArray[i];
+            long localBefore = yearTrans.epochSeconds[i] + trans.getOffsetBefore().getTotalSeconds();
+            long localAfter = yearTrans.epochSeconds[i] + trans.getOffsetAfter().getTotalSeconds();
+            if (localAfter > localBefore) {
+                // gap
+                if (localSec < localBefore) {
+                    return trans.getOffsetBefore();
+                }
+                if (localSec < localAfter) {
+                    return trans;
+                }
             } else {
-                return trans;
+                // overlap
+                if (localSec < localAfter) {
+                    return trans.getOffsetBefore();
+                }
+                if (localSec < localBefore) {
+                    return trans;
+                }
             }
         }
+        return transArray[transArray.length - 1].getOffsetAfter();
     }
 
     @Override
@@ -420,20 +498,65 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
      * @return the transition array, not null
      */
     private ZoneOffsetTransition[] findTransitionArray(int year) {
-        Integer yearObj = year;  // should use Year class, but this saves a class load
-        ZoneOffsetTransition[] transArray = lastRulesCache.get(yearObj);
-        if (transArray != null) {
-            return transArray;
+        return findYearTransitions(year).transitions;
+    }
+
+    /**
+     * Finds the transitions of the year containing the specified instant.
+     * <p>
+     * The year is estimated from the local epoch-second and then corrected using
+     * the bounds of the cached year, avoiding the creation of a date.
+     *
+     * @param epochSecond  the epoch-second of the instant
+     * @param offsetSeconds  the offset to apply, in seconds
+     * @return the transitions of the year, not null
+     */
+    private YearTransitions findYearTransitions(long epochSecond, int offsetSeconds) {
+        long localSecond = epochSecond + offsetSeconds;
+        long estimate = 1970 + Jdk8Methods.floorDiv(localSecond, SECONDS_PER_YEAR);
+        if (estimate <= Year.MIN_VALUE || estimate >= Year.MAX_VALUE) {
+            return findYearTransitions(findYear(epochSecond, offsetSeconds));
+        }
+        YearTransitions yearTrans = findYearTransitions((int) estimate);
+        if (localSecond < yearTrans.start) {
+            yearTrans = findYearTransitions(yearTrans.year - 1);
+        } else if (localSecond >= yearTrans.end) {
+            yearTrans = findYearTransitions(yearTrans.year + 1);
+        }
+        return yearTrans;
+    }
+
+    /**
+     * Finds the transitions of the given year.
+     * <p>
+     * The transitions are created on first use and held in a cache that is
+     * direct-mapped by year, thus any run of consecutive years up to the size of
+     * the cache is held without conflict. A year that maps to the same entry as a
+     * cached year replaces it.
+     *
+     * @param year  the year
+     * @return the transitions of the year, not null
+     */
+    private YearTransitions findYearTransitions(int year) {
+        AtomicReferenceArray<YearTransitions> cache = lastRulesCache;
+        if (cache == null) {
+            // concurrent creation is harmless
+            cache = new AtomicReferenceArray<YearTransitions>(YEAR_CACHE_SIZE);
+            lastRulesCache = cache;
+        }
+        int index = year & (YEAR_CACHE_SIZE - 1);
+        YearTransitions cached = cache.get(index);
+        if (cached != null && cached.year == year) {
+            return cached;
         }
         ZoneOffsetTransitionRule[] ruleArray = lastRules;
-        transArray  = new ZoneOffsetTransition[ruleArray.length];
+        ZoneOffsetTransition[] transArray  = new ZoneOffsetTransition[ruleArray.length];
         for (int i = 0; i < ruleArray.length; i++) {
             transArray[i] = ruleArray[i].createTransition(year);
         }
-        if (year < LAST_CACHED_YEAR) {
-            lastRulesCache.putIfAbsent(yearObj, transArray);
-        }
-        return transArray;
+        YearTransitions yearTrans = new YearTransitions(year, transArray);
+        cache.set(index, yearTrans);
+        return yearTrans;
     }
 
     //-----------------------------------------------------------------------
@@ -445,7 +568,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
             // switch negative insert position to start of matched range
             index = -index - 2;
         }
-        return standardOffsets[index + 1];
+        return standardOffset(index + 1);
     }
 
     @Override
@@ -471,7 +594,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
                 return null;
             }
             // search year the instant is in
-            int year = findYear(epochSec, wallOffsets[wallOffsets.length - 1]);
+            int year = findYear(epochSec, wallOffset(wallOffsets.length - 1).getTotalSeconds());
             ZoneOffsetTransition[] transArray = findTransitionArray(year);
             for (ZoneOffsetTransition trans : transArray) {
                 if (epochSec < trans.toEpochSecond()) {
@@ -493,7 +616,8 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         } else {
             index += 1;  // exact match, so need to add one to get the next
         }
-        return new ZoneOffsetTransition(savingsInstantTransitions[index], wallOffsets[index], wallOffsets[index + 1]);
+        return new ZoneOffsetTransition(
+                savingsInstantTransitions[index], wallOffset(index), wallOffset(index + 1));
     }
 
     @Override
@@ -507,7 +631,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         long lastHistoric = savingsInstantTransitions[savingsInstantTransitions.length - 1];
         if (lastRules.length > 0 && epochSec > lastHistoric) {
             // search year the instant is in
-            ZoneOffset lastHistoricOffset = wallOffsets[wallOffsets.length - 1];
+            int lastHistoricOffset = wallOffset(wallOffsets.length - 1).getTotalSeconds();
             int year = findYear(epochSec, lastHistoricOffset);
             ZoneOffsetTransition[] transArray = findTransitionArray(year);
             for (int i = transArray.length - 1; i >= 0; i--) {
@@ -532,12 +656,13 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         if (index <= 0) {
             return null;
         }
-        return new ZoneOffsetTransition(savingsInstantTransitions[index - 1], wallOffsets[index - 1], wallOffsets[index]);
+        return new ZoneOffsetTransition(
+                savingsInstantTransitions[index - 1], wallOffset(index - 1), wallOffset(index));
     }
 
-    private int findYear(long epochSecond, ZoneOffset offset) {
+    private int findYear(long epochSecond, int offsetSeconds) {
         // inline for performance
-        long localSecond = epochSecond + offset.getTotalSeconds();
+        long localSecond = epochSecond + offsetSeconds;
         long localEpochDay = Jdk8Methods.floorDiv(localSecond, 86400);
         return LocalDate.ofEpochDay(localEpochDay).getYear();
     }
@@ -547,7 +672,8 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
     public List<ZoneOffsetTransition> getTransitions() {
         List<ZoneOffsetTransition> list = new ArrayList<ZoneOffsetTransition>();
         for (int i = 0; i < savingsInstantTransitions.length; i++) {
-            list.add(new ZoneOffsetTransition(savingsInstantTransitions[i], wallOffsets[i], wallOffsets[i + 1]));
+            list.add(new ZoneOffsetTransition(
+                    savingsInstantTransitions[i], wallOffset(i), wallOffset(i + 1)));
         }
         return Collections.unmodifiableList(list);
     }
@@ -566,6 +692,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         if (obj instanceof StandardZoneRules) {
             StandardZoneRules other = (StandardZoneRules) obj;
             return Arrays.equals(standardTransitions, other.standardTransitions) &&
+                    Arrays.equals(offsets, other.offsets) &&
                     Arrays.equals(standardOffsets, other.standardOffsets) &&
                     Arrays.equals(savingsInstantTransitions, other.savingsInstantTransitions) &&
                     Arrays.equals(wallOffsets, other.wallOffsets) &&
@@ -580,6 +707,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
     @Override
     public int hashCode() {
         return Arrays.hashCode(standardTransitions) ^
+                Arrays.hashCode(offsets) ^
                 Arrays.hashCode(standardOffsets) ^
                 Arrays.hashCode(savingsInstantTransitions) ^
                 Arrays.hashCode(wallOffsets) ^
@@ -594,7 +722,45 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
      */
     @Override
     public String toString() {
-        return "StandardZoneRules[currentStandardOffset=" + standardOffsets[standardOffsets.length - 1] + "]";
+        return "StandardZoneRules[currentStandardOffset=" + standardOffset(standardOffsets.length - 1) + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The transitions created by the last rules for a year.
+     */
+    private static final class YearTransitions {
+        /**
+         * The year.
+         */
+        final int year;
+        /**
+         * The local epoch-second of the start of the year.
+         */
+        final long start;
+        /**
+         * The local epoch-second of the start of the following year.
+         */
+        final long end;
+        /**
+         * The transitions, one per last rule.
+         */
+        final ZoneOffsetTransition[] transitions;
+        /**
+         * The epoch-seconds of the transitions.
+         */
+        final long[] epochSeconds;
+
+        YearTransitions(int year, ZoneOffsetTransition[] transitions) {
+            this.year = year;
+            this.start = LocalDate.of(year, 1, 1).toEpochDay() * 86400;
+            this.end = (LocalDate.of(year, 12, 31).toEpochDay() + 1) * 86400;
+            this.transitions = transitions;
+            this.epochSeconds = new long[transitions.length];
+            for (int i = 0; i < transitions.length; i++) {
+                epochSeconds[i] = transitions[i].toEpochSecond();
+            }
+        }
     }
 
 }
@@ -31,12 +31,17 @@
  */
 package org.threeten.bp.zone;
 
-import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
 import java.io.StreamCorruptedException;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashSet;
@@ -54,6 +59,11 @@ import org.threeten.bp.jdk8.Jdk8Methods;
  * Loads time-zone rules for 'TZDB'.
  * <p>
  * This class is public for the service loader to access.
+ * <p>
+ * Each data file is held in a single buffer, memory-mapped where the file is
+ * a local file, or otherwise read once into an array. Only the location of the
+ * rules for each region is indexed when loading, with the rules themselves
+ * decoded from the buffer the first time they are requested.
  *
  * <h3>Specification for implementors</h3>
  * This class is immutable and thread-safe.
@@ -156,57 +166,98 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
      * @throws Exception if an error occurs
      */
     private Iterable<Version> load(URL url) throws ClassNotFoundException, IOException {
-        InputStream in = null;
-        try {
-            in = url.openStream();
-            DataInputStream dis = new DataInputStream(in);
-            if (dis.readByte() != 1) {
-                throw new StreamCorruptedException("File format not recognised");
-            }
-            // group
-            String groupId = dis.readUTF();
-            if ("TZDB".equals(groupId) == false) {
+        ByteBuffer data = readData(url);
+        ByteBufferInputStream in = new ByteBufferInputStream(data, 0, data.limit());
+        DataInputStream dis = new DataInputStream(in);
+        if (dis.readByte() != 1) {
+            throw new StreamCorruptedException("File format not recognised");
+        }
+        // group
+        String groupId = dis.readUTF();
+        if ("TZDB".equals(groupId) == false) {
+            throw new StreamCorruptedException("File format not recognised");
+        }
+        // versions
+        int versionCount = dis.readShort();
+        String[] versionArray = new String[versionCount];
+        for (int i = 0; i < versionCount; i++) {
+            versionArray[i] = dis.readUTF();
+        }
+        // regions
+        int regionCount = dis.readShort();
+        String[] regionArray = new String[regionCount];
+        for (int i = 0; i < regionCount; i++) {
+            regionArray[i] = dis.readUTF();
+        }
+        regionIds.addAll(Arrays.asList(regionArray));
+        // rules, indexing the location of each rather than copying the bytes
+        int ruleCount = dis.readShort();
+        int[] ruleOffsets = new int[ruleCount];
+        int[] ruleLengths = new int[ruleCount];
+        for (int i = 0; i < ruleCount; i++) {
+            ruleLengths[i] = dis.readShort();
+            ruleOffsets[i] = in.position();
+            if (dis.skipBytes(ruleLengths[i]) != ruleLengths[i]) {
                 throw new StreamCorruptedException("File format not recognised");
             }
-            // versions
-            int versionCount = dis.readShort();
-            String[] versionArray = new String[versionCount];
-            for (int i = 0; i < versionCount; i++) {
-                versionArray[i] = dis.readUTF();
-            }
-            // regions
-            int regionCount = dis.readShort();
-            String[] regionArray = new String[regionCount];
-            for (int i = 0; i < regionCount; i++) {
-                regionArray[i] = dis.readUTF();
+        }
+        RuleData ruleData = new RuleData(data, ruleOffsets, ruleLengths);
+        // link version-region-rules
+        Set<Version> versionSet = new HashSet<Version>(versionCount);
+        for (int i = 0; i < versionCount; i++) {
+            int versionRegionCount = dis.readShort();
+            String[] versionRegionArray = new String[versionRegionCount];
+            short[] versionRulesArray = new short[versionRegionCount];
+            for (int j = 0; j < versionRegionCount; j++) {
+                versionRegionArray[j] = regionArray[dis.readShort()];
+                versionRulesArray[j] = dis.readShort();
             }
-            regionIds.addAll(Arrays.asList(regionArray));
-            // rules
-            int ruleCount = dis.readShort();
-            Object[] ruleArray = new Object[ruleCount];
-            for (int i = 0; i < ruleCount; i++) {
-                byte[] bytes = new byte[dis.readShort()];
-                dis.readFully(bytes);
-                ruleArray[i] = bytes;
+            versionSet.add(new Version(versionArray[i], versionRegionArray, versionRulesArray, ruleData));
+        }
+        return versionSet;
+    }
+
+    /**
+     * Obtains the content of the URL as a buffer.
+     * <p>
+     * A local file is memory-mapped, avoiding copying it to the heap.
+     * Other URLs, such as those in a jar file, are read once into a single array.
+     *
+     * @param url  the URL to read, not null
+     * @return the buffer, positioned at the start of the data, not null
+     * @throws IOException if an error occurs
+     */
+    private static ByteBuffer readData(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            File file = null;
+            try {
+                file = new File(url.toURI());
+            } catch (URISyntaxException ex) {
+                // read as a stream
+            } catch (IllegalArgumentException ex) {
+                // read as a stream
             }
-            AtomicReferenceArray<Object> ruleData = new AtomicReferenceArray<Object>(ruleArray);
-            // link version-region-rules
-            Set<Version> versionSet = new HashSet<Version>(versionCount);
-            for (int i = 0; i < versionCount; i++) {
-                int versionRegionCount = dis.readShort();
-                String[] versionRegionArray = new String[versionRegionCount];
-                short[] versionRulesArray = new short[versionRegionCount];
-                for (int j = 0; j < versionRegionCount; j++) {
-                    versionRegionArray[j] = regionArray[dis.readShort()];
-                    versionRulesArray[j] = dis.readShort();
+            if (file != null && file.isFile()) {
+                RandomAccessFile raf = new RandomAccessFile(file, "r");
+                try {
+                    FileChannel channel = raf.getChannel();
+                    return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                } finally {
+                    raf.close();
                 }
-                versionSet.add(new Version(versionArray[i], versionRegionArray, versionRulesArray, ruleData));
             }
-            return versionSet;
-        } finally {
-            if (in != null) {
-                in.close();
+        }
+        InputStream in = url.openStream();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(128 * 1024);
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) >= 0) {
+                out.write(chunk, 0, read);
             }
+            return ByteBuffer.wrap(out.toByteArray());
+        } finally {
+            in.close();
         }
     }
 
@@ -223,9 +274,9 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
         private final String versionId;
         private final String[] regionArray;
         private final short[] ruleIndices;
-        private final AtomicReferenceArray<Object> ruleData;
+        private final RuleData ruleData;
 
-        Version(String versionId, String[] regionIds, short[] ruleIndices, AtomicReferenceArray<Object> ruleData) {
+        Version(String versionId, String[] regionIds, short[] ruleIndices, RuleData ruleData) {
             this.ruleData = ruleData;
             this.versionId = versionId;
             this.regionArray = regionIds;
@@ -245,14 +296,7 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
         }
 
         ZoneRules createRule(short index) throws Exception {
-            Object obj = ruleData.get(index);
-            if (obj instanceof byte[]) {
-                byte[] bytes = (byte[]) obj;
-                DataInputStream dis = new DataInputStream(new ByteArrayInputStream(bytes));
-                obj = Ser.read(dis);
-                ruleData.set(index, obj);
-            }
-            return (ZoneRules) obj;
+            return ruleData.getRules(index);
         }
 
         @Override
@@ -261,4 +305,102 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * The rules in a data file, decoded from the buffer on first access.
+     * <p>
+     * The rules are shared between the versions in the same file.
+     */
+    static final class RuleData {
+        /**
+         * The data file, only accessed using absolute indices.
+         */
+        private final ByteBuffer data;
+        /**
+         * The index of the bytes of each rules in the buffer.
+         */
+        private final int[] offsets;
+        /**
+         * The number of bytes of each rules in the buffer.
+         */
+        private final int[] lengths;
+        /**
+         * The rules decoded so far.
+         */
+        private final AtomicReferenceArray<ZoneRules> rules;
+
+        RuleData(ByteBuffer data, int[] offsets, int[] lengths) {
+            this.data = data;
+            this.offsets = offsets;
+            this.lengths = lengths;
+            this.rules = new AtomicReferenceArray<ZoneRules>(offsets.length);
+        }
+
+        ZoneRules getRules(int index) throws IOException, ClassNotFoundException {
+            ZoneRules obj = rules.get(index);
+            if (obj == null) {
+                DataInputStream dis = new DataInputStream(new ByteBufferInputStream(data, offsets[index], lengths[index]));
+                obj = (ZoneRules) Ser.read(dis);
+                if (rules.compareAndSet(index, null, obj) == false) {
+                    obj = rules.get(index);
+                }
+            }
+            return obj;
+        }
+    }
+
+    /**
+     * Input stream reading a range of a buffer using absolute indices.
+     * <p>
+     * Absolute indices leave the buffer unchanged, allowing the same buffer
+     * to be read by many threads at once.
+     */
+    static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer data;
+        private final int end;
+        private int pos;
+
+        ByteBufferInputStream(ByteBuffer data, int offset, int length) {
+            this.data = data;
+            this.pos = offset;
+            this.end = offset + length;
+        }
+
+        int position() {
+            return pos;
+        }
+
+        @Override
+        public int read() {
+            return (pos < end ? data.get(pos++) & 0xFF : -1);
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (pos >= end) {
+                return -1;
+            }
+            int count = Math.min(len, end - pos);
+            for (int i = 0; i < count; i++) {
+                bytes[off + i] = data.get(pos++);
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            long count = Math.max(0, Math.min(n, end - pos));
+            pos += (int) count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return end - pos;
+        }
+    }
+
 }
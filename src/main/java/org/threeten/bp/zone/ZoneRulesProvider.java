@@ -32,6 +32,7 @@
 package org.threeten.bp.zone;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -39,14 +40,22 @@ import java.util.NavigableMap;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
 import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoField;
 
 /**
  * Provider of time-zone rules to the system.
@@ -83,6 +92,14 @@ public abstract class ZoneRulesProvider {
      * The lookup from zone region ID to provider.
      */
     private static final ConcurrentMap<String, ZoneRulesProvider> ZONES = new ConcurrentHashMap<String, ZoneRulesProvider>(512, 0.75f, 2);
+    /**
+     * The cache of rules that providers have allowed to be cached, cleared on refresh.
+     */
+    private static final ConcurrentMap<String, ZoneRules> RULES = new ConcurrentHashMap<String, ZoneRules>(512, 0.75f, 2);
+    /**
+     * The number of refreshes that changed the rules, used to avoid caching stale rules.
+     */
+    private static final AtomicInteger GENERATION = new AtomicInteger();
     static {
         ServiceLoader<ZoneRulesProvider> loader = ServiceLoader.load(ZoneRulesProvider.class, ZoneRulesProvider.class.getClassLoader());
         for (ZoneRulesProvider provider : loader) {
@@ -122,6 +139,9 @@ public abstract class ZoneRulesProvider {
      * Under normal circumstances, the caching of zone rules is highly desirable
      * as it will provide greater performance. However, there is a use case where
      * the caching would not be desirable, see {@link #provideRules}.
+     * <p>
+     * When {@code forCaching} is true, rules returned by the provider are also
+     * cached here until the next {@link #refresh() refresh}.
      *
      * @param zoneId the zone ID as defined by {@code ZoneId}, not null
      * @param forCaching whether the rules are being queried for caching,
@@ -134,7 +154,19 @@ public abstract class ZoneRulesProvider {
      */
     public static ZoneRules getRules(String zoneId, boolean forCaching) {
         Jdk8Methods.requireNonNull(zoneId, "zoneId");
-        return getProvider(zoneId).provideRules(zoneId, forCaching);
+        if (forCaching == false) {
+            return getProvider(zoneId).provideRules(zoneId, false);
+        }
+        ZoneRules rules = RULES.get(zoneId);
+        if (rules == null) {
+            int generation = GENERATION.get();
+            rules = getProvider(zoneId).provideRules(zoneId, true);
+            if (rules != null && RULES.putIfAbsent(zoneId, rules) == null && GENERATION.get() != generation) {
+                // a refresh may have cleared the cache before the possibly stale rules were added
+                RULES.remove(zoneId, rules);
+            }
+        }
+        return rules;
     }
 
     /**
@@ -232,6 +264,8 @@ public abstract class ZoneRulesProvider {
      * rules dynamically at a time of the applications choosing.
      * After calling this method, the offset stored in any {@link ZonedDateTime}
      * may be invalid for the zone ID.
+     * If any rules were updated, the cache of rules is cleared so that
+     * subsequent lookups obtain the latest rules.
      * <p>
      * Dynamic behavior is entirely optional and most providers, including the
      * default provider, do not support it.
@@ -244,9 +278,132 @@ public abstract class ZoneRulesProvider {
         for (ZoneRulesProvider provider : PROVIDERS) {
             changed |= provider.provideRefresh();
         }
+        if (changed) {
+            GENERATION.incrementAndGet();
+            RULES.clear();
+        }
         return changed;
     }
 
+    //-------------------------------------------------------------------------
+    /**
+     * Warms up the rules for the specified zone IDs in parallel.
+     * <p>
+     * Rules are normally loaded and decoded by the provider on first use, and the
+     * transitions of each year are calculated the first time the year is queried.
+     * This method performs that work in advance, allowing an application to avoid
+     * the cost when handling its first requests for each zone.
+     * <p>
+     * The rules for each zone ID are obtained as though by {@code getRules(zoneId, true)},
+     * thus are cached until the next {@link #refresh() refresh}. The offsets of each
+     * year from the start year to the end year inclusive are then queried.
+     * Rules that a dynamic provider prevents from being cached are not warmed up.
+     * <p>
+     * The rules hold the transitions of a limited number of recent years, thus the
+     * window is limited to 128 years. A wider window would evict its own earliest
+     * years before the method returned.
+     * <p>
+     * The work is divided into tasks run by the executor, with this method waiting
+     * until all have completed. Pass {@link #getAvailableZoneIds()} to warm up all zones.
+     *
+     * @param zoneIds  the zone region IDs to warm up, not null
+     * @param startYear  the first year to query transitions for, from MIN_YEAR to MAX_YEAR
+     * @param endYear  the last year to query transitions for, from startYear to startYear + 127
+     * @param executor  the executor to run the tasks, not null
+     * @return the elapsed time in nanoseconds
+     * @throws DateTimeException if either year is invalid
+     * @throws IllegalArgumentException if the end year is before the start year,
+     *  or if the window is wider than 128 years
+     * @throws ZoneRulesException if rules cannot be obtained for a zone ID, or if interrupted
+     */
+    public static long warmUp(Collection<String> zoneIds, int startYear, int endYear, ExecutorService executor) {
+        Jdk8Methods.requireNonNull(zoneIds, "zoneIds");
+        Jdk8Methods.requireNonNull(executor, "executor");
+        ChronoField.YEAR.checkValidValue(startYear);
+        ChronoField.YEAR.checkValidValue(endYear);
+        if (endYear < startYear) {
+            throw new IllegalArgumentException("End year must not be before start year");
+        }
+        if (endYear - startYear >= StandardZoneRules.YEAR_CACHE_SIZE) {
+            throw new IllegalArgumentException(
+                    "Warm up window must not exceed " + StandardZoneRules.YEAR_CACHE_SIZE + " years");
+        }
+        long start = System.nanoTime();
+        List<String> ids = new ArrayList<String>(zoneIds);
+        int taskSize = ids.size() / (Runtime.getRuntime().availableProcessors() * 4) + 1;
+        List<Future<Void>> futures = new ArrayList<Future<Void>>(ids.size() / taskSize + 1);
+        try {
+            for (int from = 0; from < ids.size(); from += taskSize) {
+                List<String> taskIds = ids.subList(from, Math.min(ids.size(), from + taskSize));
+                futures.add(executor.submit(new WarmUpTask(taskIds, startYear, endYear)));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ZoneRulesException("Interrupted while warming up time-zone rules", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ZoneRulesException(cause.getMessage(), cause);
+        } finally {
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Warms up the rules for a zone ID.
+     *
+     * @param zoneId  the zone region ID, not null
+     * @param startYear  the first year to query transitions for
+     * @param endYear  the last year to query transitions for
+     */
+    private static void warmUp(String zoneId, int startYear, int endYear) {
+        ZoneRules rules = getRules(zoneId, true);
+        if (rules == null || rules.isFixedOffset()) {
+            return;
+        }
+        // query each year once, as walking the transitions would also query the
+        // year after the window, evicting the first year from the cache
+        for (int year = startYear; year <= endYear; year++) {
+            LocalDateTime midYear = LocalDateTime.of(year, 7, 1, 0, 0);
+            rules.getOffset(midYear);
+            rules.getOffset(midYear.toInstant(ZoneOffset.UTC));
+        }
+    }
+
+    /**
+     * Task to warm up the rules for a subset of the zone IDs.
+     */
+    private static final class WarmUpTask implements Callable<Void> {
+        private final List<String> zoneIds;
+        private final int startYear;
+        private final int endYear;
+
+        WarmUpTask(List<String> zoneIds, int startYear, int endYear) {
+            this.zoneIds = zoneIds;
+            this.startYear = startYear;
+            this.endYear = endYear;
+        }
+
+        @Override
+        public Void call() {
+            for (String zoneId : zoneIds) {
+                warmUp(zoneId, startYear, endYear);
+            }
+            return null;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructor.
@@ -55,6 +55,9 @@ import java.util.Random;
 import java.util.TreeMap;
 
 import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.DateTimeFormatterBuilder;
+import org.threeten.bp.format.DateTimeParser;
+import org.threeten.bp.format.ResolverStyle;
 
 /**
  * Test Performance.
@@ -106,6 +109,9 @@ public class Performance {
         List<LocalDateTime> ldt = setupDateTime();
         queryListDateTime(ldt);
         formatListDateTime(ldt);
+        formatListDateTimePattern(ldt);
+        parseListDateTime(ldt);
+        parseListDateTimeGeneral(ldt);
         sortListDateTime(ldt);
 
         List<ZonedDateTime> zdt = setupZonedDateTime();
@@ -116,6 +122,7 @@ public class Performance {
         List<Instant> instants = setupInstant();
         queryListInstant(instants);
         formatListInstant(instants);
+        formatArrayInstant(instants);
         sortListInstant(instants);
 
         List<Date> judates = setupDate();
@@ -126,11 +133,16 @@ public class Performance {
         List<LocalDate> ld = setupLocalDate();
         queryListLocalDate(ld);
         formatListLocalDate(ld);
+        parseListLocalDate(ld);
+        parseListLocalDateReused(ld);
+        parseListLocalDateEpochDay(ld);
         sortListLocalDate(ld);
 
         List<LocalTime> lt = setupTime();
         queryListTime(lt);
         formatListTime(lt);
+        formatListTimePattern(lt);
+        parseListTimePattern(lt);
         sortListTime(lt);
 
         List<GregorianCalendar> gcals = setupGCal();
@@ -196,6 +208,52 @@ public class Performance {
         result("LocalDT-P", end - start);
     }
 
+    private static void formatListDateTimePattern(List<LocalDateTime> list) {
+        StringBuilder buf = new StringBuilder();
+        DateTimeFormatter format = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS", Locale.ENGLISH);
+        long start = System.nanoTime();
+        for (LocalDateTime dt : list) {
+            buf.setLength(0);
+            buf.append(format.format(dt));
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalDT:   Pattern:" + NF.format(end - start) + " ns" + " " + buf);
+        result("LocalDT-F", end - start);
+    }
+
+    private static void parseListDateTime(List<LocalDateTime> list) {
+        List<String> texts = new ArrayList<String>(list.size());
+        for (LocalDateTime dt : list) {
+            texts.add(dt.toString());
+        }
+        long total = 0;
+        long start = System.nanoTime();
+        for (String text : texts) {
+            total += LocalDateTime.parse(text).getSecond();
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalDT:   Parse:  " + NF.format(end - start) + " ns" + " " + total);
+        result("LocalDT-R", end - start);
+    }
+
+    private static void parseListDateTimeGeneral(List<LocalDateTime> list) {
+        List<String> texts = new ArrayList<String>(list.size());
+        for (LocalDateTime dt : list) {
+            texts.add(dt.toString());
+        }
+        // a copy of the constant is not recognized by the ISO fast parser
+        DateTimeFormatter format = new DateTimeFormatterBuilder().append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                .toFormatter().withResolverStyle(ResolverStyle.STRICT);
+        long total = 0;
+        long start = System.nanoTime();
+        for (String text : texts) {
+            total += format.parse(text, LocalDateTime.FROM).getSecond();
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalDT:   General:" + NF.format(end - start) + " ns" + " " + total);
+        result("LocalDT-G", end - start);
+    }
+
     private static void deriveDateTime(List<LocalDateTime> list) {
         long total = 0;
         long start = System.nanoTime();
@@ -260,6 +318,53 @@ public class Performance {
         result("LocalD-P", end - start);
     }
 
+    private static void parseListLocalDate(List<LocalDate> list) {
+        List<String> texts = formatList(list);
+        DateTimeFormatter format = DateTimeFormatter.ISO_LOCAL_DATE;
+        long total = 0;
+        long start = System.nanoTime();
+        for (String text : texts) {
+            total += format.parse(text, LocalDate.FROM).getDayOfMonth();
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalD:    Parse:  " + NF.format(end - start) + " ns" + " " + total);
+        result("LocalD-R", end - start);
+    }
+
+    private static void parseListLocalDateReused(List<LocalDate> list) {
+        List<String> texts = formatList(list);
+        DateTimeParser parser = DateTimeFormatter.ISO_LOCAL_DATE.newParser();
+        long total = 0;
+        long start = System.nanoTime();
+        for (String text : texts) {
+            total += parser.parse(text, LocalDate.FROM).getDayOfMonth();
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalD:    Reused: " + NF.format(end - start) + " ns" + " " + total);
+        result("LocalD-U", end - start);
+    }
+
+    private static void parseListLocalDateEpochDay(List<LocalDate> list) {
+        List<String> texts = formatList(list);
+        DateTimeParser parser = DateTimeFormatter.ISO_LOCAL_DATE.newParser();
+        long total = 0;
+        long start = System.nanoTime();
+        for (String text : texts) {
+            total += parser.parseEpochDay(text);
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalD:    EpochD: " + NF.format(end - start) + " ns" + " " + total);
+        result("LocalD-E", end - start);
+    }
+
+    private static List<String> formatList(List<LocalDate> list) {
+        List<String> texts = new ArrayList<String>(list.size());
+        for (LocalDate dt : list) {
+            texts.add(dt.toString());
+        }
+        return texts;
+    }
+
     //-----------------------------------------------------------------------
     private static List<LocalTime> setupTime() {
         Random random = new Random(47658758756875687L);
@@ -310,6 +415,36 @@ public class Performance {
         result("LocalT-P", end - start);
     }
 
+    private static void formatListTimePattern(List<LocalTime> list) {
+        StringBuilder buf = new StringBuilder();
+        DateTimeFormatter format = DateTimeFormatter.ofPattern("HH:mm:ss.SSSSSSSSS", Locale.ENGLISH);
+        long start = System.nanoTime();
+        for (LocalTime dt : list) {
+            buf.setLength(0);
+            format.formatTo(dt, buf);
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalT:    Pattern:" + NF.format(end - start) + " ns" + " " + buf);
+        result("LocalT-F", end - start);
+    }
+
+    private static void parseListTimePattern(List<LocalTime> list) {
+        DateTimeFormatter format = DateTimeFormatter.ofPattern("HH:mm:ss.SSSSSSSSS", Locale.ENGLISH);
+        List<String> texts = new ArrayList<String>(list.size());
+        for (LocalTime dt : list) {
+            texts.add(format.format(dt));
+        }
+        DateTimeParser parser = format.newParser();
+        long total = 0;
+        long start = System.nanoTime();
+        for (String text : texts) {
+            total += parser.parse(text, LocalTime.FROM).getNano();
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalT:    Parse:  " + NF.format(end - start) + " ns" + " " + total);
+        result("LocalT-R", end - start);
+    }
+
     private static void deriveTime(List<LocalTime> list) {
         long total = 0;
         long start = System.nanoTime();
@@ -426,6 +561,23 @@ public class Performance {
         result("Instant-P", end - start);
     }
 
+    private static void formatArrayInstant(List<Instant> list) {
+        // a sorted column of recent values, as the random instants are mostly outside four digit years
+        long[] epochMillis = new long[list.size()];
+        for (int i = 0; i < epochMillis.length; i++) {
+            epochMillis[i] = 1300000000000L + Math.abs(list.get(i).toEpochMilli() % 1000000000000L);
+        }
+        Arrays.sort(epochMillis);
+        char[] chars = new char[epochMillis.length * 40];
+        int[] ends = new int[epochMillis.length];
+        ZoneId zone = ZoneId.of("Europe/London");
+        long start = System.nanoTime();
+        int total = DateTimeFormatter.ISO_OFFSET_DATE_TIME.formatEpochMillis(epochMillis, zone, chars, 0, ends);
+        long end = System.nanoTime();
+        System.out.println("Instant:   Batch:  " + NF.format(end - start) + " ns" + " " + total);
+        result("Instant-B", end - start);
+    }
+
     //-----------------------------------------------------------------------
     private static List<Date> setupDate() {
         Random random = new Random(47658758756875687L);
@@ -45,6 +45,8 @@ public class PerformanceZone {
 
     /** The year to test. */
     private static final int YEAR = 1980;
+    /** The year to test, after the last historic transition. */
+    private static final int RULES_YEAR = 2030;
     /** Size. */
     private static final NumberFormat NF = NumberFormat.getIntegerInstance();
     static {
@@ -66,6 +68,8 @@ public class PerformanceZone {
             jsrInstantGetOffset();
             jsrRulesLocalGetOffset();
             jsrRulesInstantGetOffset();
+            jsrRulesLocalGetOffsetLastRules();
+            jsrRulesInstantGetOffsetLastRules();
             jdkLocalGetOffset();
             jdkInstantGetOffset();
             System.out.println();
@@ -124,6 +128,32 @@ public class PerformanceZone {
         System.out.println("JSR-InR: Setup:  " + NF.format(end - start) + " ns" + list[0]);
     }
 
+    //-----------------------------------------------------------------------
+    private static void jsrRulesLocalGetOffsetLastRules() {
+        LocalDateTime dt = LocalDateTime.of(RULES_YEAR, 6, 1, 12, 0);
+        ZoneRules tz = ZoneId.of("Europe/London").getRules();
+        ZoneOffset[] list = new ZoneOffset[SIZE];
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            list[i] = tz.getOffset(dt);
+        }
+        long end = System.nanoTime();
+        System.out.println("JSR-LoL: Setup:  " + NF.format(end - start) + " ns" + list[0]);
+    }
+
+    //-----------------------------------------------------------------------
+    private static void jsrRulesInstantGetOffsetLastRules() {
+        Instant instant = LocalDateTime.of(RULES_YEAR, 6, 1, 12, 0).toInstant(ZoneOffset.ofHours(1));
+        ZoneRules tz = ZoneId.of("Europe/London").getRules();
+        ZoneOffset[] list = new ZoneOffset[SIZE];
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            list[i] = tz.getOffset(instant);
+        }
+        long end = System.nanoTime();
+        System.out.println("JSR-InL: Setup:  " + NF.format(end - start) + " ns" + list[0]);
+    }
+
     //-----------------------------------------------------------------------
     private static void jdkLocalGetOffset() {
         java.util.TimeZone tz = java.util.TimeZone.getTimeZone("Europe/London");
@@ -32,9 +32,11 @@
 package org.threeten.bp;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
@@ -385,6 +387,12 @@ public class TestZoneId extends AbstractTest {
         assertEquals(test.getRules().isFixedOffset(), false);
     }
 
+    public void test_of_string_London_cached() {
+        ZoneId test = ZoneId.of("Europe/London");
+        assertSame(ZoneId.of("Europe/London"), test);
+        assertSame(ZoneId.of("Europe/London").getRules(), test.getRules());
+    }
+
     //-----------------------------------------------------------------------
     @Test(expectedExceptions=NullPointerException.class)
     public void test_of_string_null() {
@@ -918,6 +926,48 @@ public class TestZoneId extends AbstractTest {
         assertEquals(test.getRules().isFixedOffset(), true);
     }
 
+    public void test_getFixedOffset() {
+        assertSame(ZoneId.of("Etc/UTC").getFixedOffset(), ZoneOffset.UTC);
+        assertSame(ZoneId.of("UTC").getFixedOffset(), ZoneOffset.UTC);
+        assertEquals(ZoneId.of("Etc/GMT+5").getFixedOffset(), ZoneOffset.ofHours(-5));
+        assertEquals(ZoneId.of("Europe/London").getFixedOffset(), null);
+        ZoneOffset offset = ZoneOffset.ofHoursMinutes(1, 30);
+        assertSame(offset.getFixedOffset(), offset);
+    }
+
+    public void test_getFixedOffset_allZones() {
+        Instant instant = Instant.ofEpochSecond(1340000000L, 5);
+        LocalDateTime ldt = LocalDateTime.of(2012, 6, 30, 12, 30);
+        for (String id : ZoneId.getAvailableZoneIds()) {
+            ZoneId test = ZoneId.of(id);
+            ZoneRules rules = test.getRules();
+            if (rules.isFixedOffset()) {
+                ZoneOffset offset = rules.getOffset(Instant.EPOCH);
+                assertEquals(test.getFixedOffset(), offset, id);
+                assertEquals(test.normalized(), offset, id);
+                assertEquals(ZonedDateTime.ofInstant(instant, test).getOffset(), offset, id);
+                assertEquals(ZonedDateTime.ofInstant(instant, test).toInstant(), instant, id);
+                assertEquals(ZonedDateTime.of(ldt, test).getOffset(), offset, id);
+                assertEquals(OffsetDateTime.ofInstant(instant, test), OffsetDateTime.ofInstant(instant, offset), id);
+            } else {
+                assertEquals(test.getFixedOffset(), null, id);
+            }
+        }
+    }
+
+    public void test_ofStrict_fixedRegion() {
+        ZoneId test = ZoneId.of("Etc/GMT-2");
+        LocalDateTime ldt = LocalDateTime.of(2012, 6, 30, 12, 30);
+        assertEquals(ZonedDateTime.ofStrict(ldt, ZoneOffset.ofHours(2), test).getOffset(), ZoneOffset.ofHours(2));
+        try {
+            ZonedDateTime.ofStrict(ldt, ZoneOffset.ofHours(1), test);
+            fail();
+        } catch (DateTimeException ex) {
+            assertEquals(ex.getMessage(),
+                    "ZoneOffset '+01:00' is not valid for LocalDateTime '2012-06-30T12:30' in zone 'Etc/GMT-2'");
+        }
+    }
+
     //-----------------------------------------------------------------------
     // equals() / hashCode()
     //-----------------------------------------------------------------------
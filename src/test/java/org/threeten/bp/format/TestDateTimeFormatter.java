@@ -33,20 +33,29 @@ package org.threeten.bp.format;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.text.Format;
 import java.text.ParseException;
 import java.text.ParsePosition;
+import java.util.Arrays;
 import java.util.Locale;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
 import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalTime;
+import org.threeten.bp.Year;
 import org.threeten.bp.YearMonth;
 import org.threeten.bp.ZoneId;
 import org.threeten.bp.ZonedDateTime;
@@ -85,6 +94,49 @@ public class TestDateTimeFormatter {
         base.withLocale((Locale) null);
     }
 
+    //-----------------------------------------------------------------------
+    // ofPattern
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_ofPattern_cached() throws Exception {
+        long hits = DateTimeFormatter.getPatternCacheHitCount();
+        DateTimeFormatter first = DateTimeFormatter.ofPattern("yyyy'cached'MMdd", Locale.FRENCH);
+        DateTimeFormatter second = DateTimeFormatter.ofPattern("yyyy'cached'MMdd", Locale.FRENCH);
+        assertSame(second, first);
+        assertTrue(DateTimeFormatter.getPatternCacheHitCount() > hits);
+        assertEquals(first.getLocale(), Locale.FRENCH);
+        assertEquals(first.toString(), new DateTimeFormatterBuilder().appendPattern("yyyy'cached'MMdd").toFormatter().toString());
+    }
+
+    @Test
+    public void test_ofPattern_cachedByLocale() throws Exception {
+        DateTimeFormatter english = DateTimeFormatter.ofPattern("MMMM 'locale'", Locale.ENGLISH);
+        DateTimeFormatter german = DateTimeFormatter.ofPattern("MMMM 'locale'", Locale.GERMAN);
+        assertEquals(english.getLocale(), Locale.ENGLISH);
+        assertEquals(german.getLocale(), Locale.GERMAN);
+        assertEquals(english.format(LocalDate.of(2012, 3, 1)), "March locale");
+        assertEquals(german.format(LocalDate.of(2012, 3, 1)), "M\u00e4rz locale");
+    }
+
+    @Test
+    public void test_ofPattern_invalidNotCached() throws Exception {
+        long misses = DateTimeFormatter.getPatternCacheMissCount();
+        for (int i = 0; i < 2; i++) {
+            try {
+                DateTimeFormatter.ofPattern("yyyy'unclosed", Locale.ENGLISH);
+                fail();
+            } catch (IllegalArgumentException ex) {
+                // expected
+            }
+        }
+        assertTrue(DateTimeFormatter.getPatternCacheMissCount() >= misses + 2);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_ofPattern_nullLocale() throws Exception {
+        DateTimeFormatter.ofPattern("yyyy", null);
+    }
+
     //-----------------------------------------------------------------------
     // print
     //-----------------------------------------------------------------------
@@ -147,6 +199,129 @@ public class TestDateTimeFormatter {
         }
     }
 
+    @Test
+    public void test_print_CalendricalCharBuffer() throws Exception {
+        DateTimeFormatter test = fmt.withLocale(Locale.ENGLISH).withDecimalStyle(DecimalStyle.STANDARD);
+        CharBuffer buf = CharBuffer.allocate(8);
+        buf.put('X');
+        test.formatTo(LocalDate.of(2008, 6, 30), buf);
+        assertEquals(buf.position(), 6);
+        buf.flip();
+        assertEquals(buf.toString(), "XONE30");
+    }
+
+    @Test(expectedExceptions=BufferOverflowException.class)
+    public void test_print_CalendricalCharBuffer_overflow() throws Exception {
+        DateTimeFormatter test = fmt.withLocale(Locale.ENGLISH).withDecimalStyle(DecimalStyle.STANDARD);
+        test.formatTo(LocalDate.of(2008, 6, 30), CharBuffer.allocate(4));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_print_CalendricalCharArray() throws Exception {
+        char[] chars = "XXXXXXXX".toCharArray();
+        assertEquals(fmt.formatTo(LocalDate.of(2008, 6, 30), chars, 2), 5);
+        assertEquals(new String(chars), "XXONE30X");
+    }
+
+    @Test
+    public void test_print_CalendricalCharArray_tooSmall() throws Exception {
+        char[] chars = "XXXXXX".toCharArray();
+        try {
+            fmt.formatTo(LocalDate.of(2008, 6, 30), chars, 2);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {
+            assertEquals(new String(chars), "XXXXXX");
+        }
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_print_CalendricalCharArray_negativeOffset() throws Exception {
+        fmt.formatTo(LocalDate.of(2008, 6, 30), new char[10], -1);
+    }
+
+    @Test
+    public void test_print_CalendricalByteArray() throws Exception {
+        byte[] bytes = new byte[8];
+        assertEquals(fmt.formatTo(LocalDate.of(2008, 6, 30), bytes, 1), 5);
+        assertEquals(new String(bytes, 1, 5, "UTF-8"), "ONE30");
+        assertEquals(bytes[0], 0);
+        assertEquals(bytes[6], 0);
+    }
+
+    @Test
+    public void test_print_CalendricalByteArray_utf8() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatterBuilder()
+            .appendLiteral("\u00e9\u20ac\ud83d\ude00\ud83d").appendValue(DAY_OF_MONTH).toFormatter();
+        String expected = test.format(LocalDate.of(2008, 6, 30));
+        byte[] bytes = new byte[20];
+        int length = test.formatTo(LocalDate.of(2008, 6, 30), bytes, 0);
+        assertEquals(Arrays.copyOf(bytes, length), expected.getBytes("UTF-8"));
+    }
+
+    @Test
+    public void test_print_CalendricalByteArray_tooSmall() throws Exception {
+        byte[] bytes = new byte[5];
+        try {
+            fmt.formatTo(LocalDate.of(2008, 6, 30), bytes, 1);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {
+            assertEquals(bytes, new byte[5]);
+        }
+    }
+
+    @Test
+    public void test_print_CalendricalByteBuffer() throws Exception {
+        ByteBuffer heap = ByteBuffer.allocate(8);
+        heap.put((byte) 'X');
+        assertEquals(fmt.formatTo(LocalDate.of(2008, 6, 30), heap), 5);
+        assertEquals(heap.position(), 6);
+        assertEquals(new String(heap.array(), 0, 6, "UTF-8"), "XONE30");
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(8);
+        direct.put((byte) 'X');
+        assertEquals(fmt.formatTo(LocalDate.of(2008, 6, 30), direct), 5);
+        assertEquals(direct.position(), 6);
+        byte[] bytes = new byte[6];
+        direct.flip();
+        direct.get(bytes);
+        assertEquals(new String(bytes, "UTF-8"), "XONE30");
+    }
+
+    @Test
+    public void test_print_CalendricalByteBuffer_utf8Direct() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatterBuilder()
+            .appendLiteral("\u00e9").appendValue(DAY_OF_MONTH).toFormatter();
+        ByteBuffer direct = ByteBuffer.allocateDirect(8);
+        assertEquals(test.formatTo(LocalDate.of(2008, 6, 30), direct), 4);
+        byte[] bytes = new byte[4];
+        direct.flip();
+        direct.get(bytes);
+        assertEquals(new String(bytes, "UTF-8"), "\u00e930");
+    }
+
+    @Test
+    public void test_print_CalendricalByteBuffer_overflow() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.position(4);
+        try {
+            fmt.formatTo(LocalDate.of(2008, 6, 30), buffer);
+            fail();
+        } catch (BufferOverflowException ex) {
+            assertEquals(buffer.position(), 4);
+        }
+    }
+
+    @Test(expectedExceptions=ReadOnlyBufferException.class)
+    public void test_print_CalendricalByteBuffer_readOnly() throws Exception {
+        fmt.formatTo(LocalDate.of(2008, 6, 30), ByteBuffer.allocate(8).asReadOnlyBuffer());
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_print_CalendricalByteBuffer_noSuchField() throws Exception {
+        fmt.formatTo(LocalTime.of(11, 30), ByteBuffer.allocate(8));
+    }
+
     //-----------------------------------------------------------------------
     // parse(Class)
     //-----------------------------------------------------------------------
@@ -156,6 +331,14 @@ public class TestDateTimeFormatter {
         assertEquals(result, LocalDate.of(2012, 7, 27));
     }
 
+    @Test
+    public void test_parse_Class_String_instantInZone() throws Exception {
+        DateTimeFormatter f = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm VV");
+        assertEquals(f.parse("2012-06-30 12:30 Etc/UTC", Instant.FROM), Instant.parse("2012-06-30T12:30:00Z"));
+        assertEquals(f.parse("2012-06-30 12:30 Etc/GMT+5", Instant.FROM), Instant.parse("2012-06-30T17:30:00Z"));
+        assertEquals(f.parse("2012-06-30 12:30 Europe/Paris", Instant.FROM), Instant.parse("2012-06-30T10:30:00Z"));
+    }
+
     @Test
     public void test_parse_Class_CharSequence() throws Exception {
         LocalDate result = DATE_FORMATTER.parse(new StringBuilder("ONE2012 07 27"), LocalDate.FROM);
@@ -212,6 +395,88 @@ public class TestDateTimeFormatter {
         test.parse("30", (TemporalQuery<?>) null);
     }
 
+    //-----------------------------------------------------------------------
+    // parse(byte[]/ByteBuffer)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_parse_bytes() throws Exception {
+        byte[] bytes = "xxONE2012 07 27yy".getBytes("US-ASCII");
+        assertEquals(DATE_FORMATTER.parse(bytes, 2, 13, LocalDate.FROM), LocalDate.of(2012, 7, 27));
+    }
+
+    @Test
+    public void test_parse_bytes_isoFastPath() throws Exception {
+        byte[] bytes = "2012-07-27T11:30:45Z\n".getBytes("US-ASCII");
+        assertEquals(DateTimeFormatter.ISO_INSTANT.parse(bytes, 0, 20, Instant.FROM), Instant.ofEpochSecond(1343388645));
+    }
+
+    @Test
+    public void test_parse_bytes_parseError() throws Exception {
+        byte[] bytes = "ONE2012 07 XX".getBytes("US-ASCII");
+        try {
+            DATE_FORMATTER.parse(bytes, 0, bytes.length, LocalDate.FROM);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getParsedString(), "ONE2012 07 XX");
+            assertEquals(ex.getErrorIndex(), 11);
+        }
+    }
+
+    @Test
+    public void test_parse_bytes_parseIncomplete() throws Exception {
+        byte[] bytes = "ONE2012 07 27yy".getBytes("US-ASCII");
+        try {
+            DATE_FORMATTER.parse(bytes, 0, bytes.length, LocalDate.FROM);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getParsedString(), "ONE2012 07 27yy");
+            assertEquals(ex.getErrorIndex(), 13);
+        }
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_parse_bytes_invalidRange() throws Exception {
+        DATE_FORMATTER.parse(new byte[10], 2, 9, LocalDate.FROM);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_parse_bytes_null() throws Exception {
+        DATE_FORMATTER.parse((byte[]) null, 0, 0, LocalDate.FROM);
+    }
+
+    @Test
+    public void test_parse_ByteBuffer_heap() throws Exception {
+        ByteBuffer buf = ByteBuffer.wrap("xxONE2012 07 27yy".getBytes("US-ASCII"));
+        buf.position(2).limit(15);
+        ByteBuffer slice = buf.slice();
+        assertEquals(DATE_FORMATTER.parse(buf, LocalDate.FROM), LocalDate.of(2012, 7, 27));
+        assertEquals(DATE_FORMATTER.parse(slice, LocalDate.FROM), LocalDate.of(2012, 7, 27));
+        assertEquals(buf.position(), 2);
+    }
+
+    @Test
+    public void test_parse_ByteBuffer_direct() throws Exception {
+        ByteBuffer buf = ByteBuffer.allocateDirect(32);
+        buf.put("xx2012-07-27T11:30:45+01:00".getBytes("US-ASCII"));
+        buf.flip();
+        buf.position(2);
+        assertEquals(DateTimeFormatter.ISO_ZONED_DATE_TIME.parse(buf, ZonedDateTime.FROM),
+                ZonedDateTime.parse("2012-07-27T11:30:45+01:00"));
+        assertEquals(buf.position(), 2);
+    }
+
+    @Test
+    public void test_parse_ByteBuffer_nonAscii() throws Exception {
+        ByteBuffer buf = ByteBuffer.wrap(new byte[] {'2', '0', '1', '2', (byte) 0xAD});
+        try {
+            DateTimeFormatter.ofPattern("yyyy").parse(buf, Year.FROM);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getParsedString(), "2012\u00AD");
+            assertEquals(ex.getErrorIndex(), 4);
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_parseBest_firstOption() throws Exception {
@@ -334,6 +599,67 @@ public class TestDateTimeFormatter {
         test.parseUnresolved("ONE30", pos);
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_parseResolved() throws Exception {
+        ParsePosition pos = new ParsePosition(0);
+        LocalDate result = DATE_FORMATTER.parseResolved("ONE2012 07 27XXX", pos, LocalDate.FROM);
+        assertEquals(result, LocalDate.of(2012, 7, 27));
+        assertEquals(pos.getIndex(), 13);
+        assertEquals(pos.getErrorIndex(), -1);
+    }
+
+    @Test
+    public void test_parseResolved_position() throws Exception {
+        ParsePosition pos = new ParsePosition(3);
+        LocalDate result = DateTimeFormatter.ISO_LOCAL_DATE.parseResolved("on 2012-07-27", pos, LocalDate.FROM);
+        assertEquals(result, LocalDate.of(2012, 7, 27));
+        assertEquals(pos.getIndex(), 13);
+    }
+
+    @Test
+    public void test_parseResolved_isoFastPath() throws Exception {
+        ParsePosition pos = new ParsePosition(0);
+        LocalDate result = DateTimeFormatter.ISO_LOCAL_DATE.parseResolved("2012-07-27", pos, LocalDate.FROM);
+        assertEquals(result, LocalDate.of(2012, 7, 27));
+        assertEquals(pos.getIndex(), 10);
+        assertEquals(pos.getErrorIndex(), -1);
+    }
+
+    @Test
+    public void test_parseResolved_parseError() throws Exception {
+        ParsePosition pos = new ParsePosition(0);
+        assertNull(DATE_FORMATTER.parseResolved("ONE2012 07 XX", pos, LocalDate.FROM));
+        assertEquals(pos.getIndex(), 0);
+        assertEquals(pos.getErrorIndex(), 11);
+    }
+
+    @Test
+    public void test_parseResolved_resolveError() throws Exception {
+        ParsePosition pos = new ParsePosition(2);
+        assertNull(DateTimeFormatter.ISO_LOCAL_DATE.parseResolved("  2012-02-30", pos, LocalDate.FROM));
+        assertEquals(pos.getIndex(), 2);
+        assertEquals(pos.getErrorIndex(), 2);
+    }
+
+    @Test
+    public void test_parseResolved_queryError() throws Exception {
+        ParsePosition pos = new ParsePosition(0);
+        assertNull(DateTimeFormatter.ISO_LOCAL_DATE.parseResolved("2012-07-27", pos, LocalTime.FROM));
+        assertEquals(pos.getIndex(), 0);
+        assertEquals(pos.getErrorIndex(), 0);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_parseResolved_invalidPosition() throws Exception {
+        DATE_FORMATTER.parseResolved("ONE30", new ParsePosition(6), LocalDate.FROM);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_parseResolved_nullQuery() throws Exception {
+        DATE_FORMATTER.parseResolved("ONE2012 07 27", new ParsePosition(0), (TemporalQuery<?>) null);
+    }
+
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
     @Test
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+
+import java.text.ParsePosition;
+import java.util.Locale;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.chrono.ThaiBuddhistChronology;
+import org.threeten.bp.temporal.TemporalAccessor;
+
+/**
+ * Test DateTimeParseContext optional sections.
+ */
+@Test
+public class TestDateTimeParseContext {
+
+    private DateTimeParseContext context() {
+        return new DateTimeParseContext(Locale.ENGLISH, DecimalStyle.STANDARD, IsoChronology.INSTANCE);
+    }
+
+    public void test_optional_successful() {
+        DateTimeParseContext test = context();
+        test.setParsedField(YEAR, 2012, 0, 4);
+        test.startOptional();
+        test.setParsedField(MONTH_OF_YEAR, 6, 4, 6);
+        test.setParsed(ZoneOffset.UTC);
+        test.endOptional(true);
+        assertEquals(test.getParsed(YEAR), Long.valueOf(2012));
+        assertEquals(test.getParsed(MONTH_OF_YEAR), Long.valueOf(6));
+        assertEquals(test.toParsed().zone, ZoneOffset.UTC);
+    }
+
+    public void test_optional_unsuccessful() {
+        DateTimeParseContext test = context();
+        test.setParsedField(YEAR, 2012, 0, 4);
+        test.setParsed(ZoneId.of("Europe/Paris"));
+        test.startOptional();
+        test.setParsedField(YEAR, 2013, 0, 4);
+        test.setParsedField(MONTH_OF_YEAR, 6, 4, 6);
+        test.setParsed(ZoneOffset.UTC);
+        test.setParsed(ThaiBuddhistChronology.INSTANCE);
+        test.setParsedLeapSecond();
+        test.endOptional(false);
+        assertEquals(test.getParsed(YEAR), Long.valueOf(2012));
+        assertNull(test.getParsed(MONTH_OF_YEAR));
+        assertEquals(test.toParsed().fieldValues.size(), 1);
+        assertEquals(test.toParsed().zone, ZoneId.of("Europe/Paris"));
+        assertEquals(test.getEffectiveChronology(), IsoChronology.INSTANCE);
+        assertFalse(test.toParsed().leapSecond);
+    }
+
+    public void test_optional_nested() {
+        DateTimeParseContext test = context();
+        test.startOptional();
+        test.setParsedField(YEAR, 2012, 0, 4);
+        test.startOptional();
+        test.setParsedField(MONTH_OF_YEAR, 6, 4, 6);
+        test.endOptional(true);
+        test.startOptional();
+        test.setParsedField(DAY_OF_MONTH, 30, 6, 8);
+        test.endOptional(false);
+        assertEquals(test.getParsed(MONTH_OF_YEAR), Long.valueOf(6));
+        assertNull(test.getParsed(DAY_OF_MONTH));
+        test.endOptional(false);
+        assertTrue(test.toParsed().fieldValues.isEmpty());
+    }
+
+    public void test_optional_nestedThenOuterSuccessful() {
+        DateTimeParseContext test = context();
+        test.startOptional();
+        test.setParsedField(YEAR, 2012, 0, 4);
+        test.startOptional();
+        test.setParsedField(MONTH_OF_YEAR, 6, 4, 6);
+        test.endOptional(false);
+        test.endOptional(true);
+        test.startOptional();
+        test.setParsedField(DAY_OF_MONTH, 30, 6, 8);
+        test.endOptional(false);
+        assertEquals(test.getParsed(YEAR), Long.valueOf(2012));
+        assertNull(test.getParsed(MONTH_OF_YEAR));
+        assertNull(test.getParsed(DAY_OF_MONTH));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse_nestedOptionalRolledBack() {
+        DateTimeFormatter f = DateTimeFormatter.ofPattern("uuuu[-MM[-dd]'X']");
+        ParsePosition pos = new ParsePosition(0);
+        TemporalAccessor parsed = f.parseUnresolved("2012-06-30Y", pos);
+        assertEquals(pos.getIndex(), 4);
+        assertEquals(parsed.getLong(YEAR), 2012);
+        assertFalse(parsed.isSupported(MONTH_OF_YEAR));
+        assertFalse(parsed.isSupported(DAY_OF_MONTH));
+    }
+
+    public void test_parse_innerOptionalRolledBack() {
+        DateTimeFormatter f = DateTimeFormatter.ofPattern("uuuu[-MM[-dd]]");
+        ParsePosition pos = new ParsePosition(0);
+        TemporalAccessor parsed = f.parseUnresolved("2012-06-3", pos);
+        assertEquals(pos.getIndex(), 7);
+        assertEquals(parsed.getLong(MONTH_OF_YEAR), 6);
+        assertFalse(parsed.isSupported(DAY_OF_MONTH));
+    }
+
+}
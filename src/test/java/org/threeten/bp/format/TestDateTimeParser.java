@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.text.ParsePosition;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.temporal.ChronoUnit;
+
+/**
+ * Test DateTimeParser.
+ */
+@Test
+public class TestDateTimeParser {
+
+    public void test_getFormatter() {
+        DateTimeParser test = DateTimeFormatter.ISO_LOCAL_DATE.newParser();
+        assertSame(test.getFormatter(), DateTimeFormatter.ISO_LOCAL_DATE);
+        assertEquals(test.toString(), DateTimeFormatter.ISO_LOCAL_DATE.toString());
+    }
+
+    public void test_parse_repeated() {
+        DateTimeParser test = DateTimeFormatter.ISO_LOCAL_DATE.newParser();
+        assertEquals(test.parse("2012-06-30", LocalDate.FROM), LocalDate.of(2012, 6, 30));
+        assertEquals(test.parse("2011-01-02", LocalDate.FROM), LocalDate.of(2011, 1, 2));
+        assertEquals(test.parse("2012-06-30", LocalDate.FROM), LocalDate.of(2012, 6, 30));
+    }
+
+    public void test_parse_optionalSections() {
+        DateTimeParser test = DateTimeFormatter.ISO_DATE_TIME.newParser();
+        assertEquals(test.parse("2012-06-30T12:30+01:00[Europe/Paris]", ZonedDateTime.FROM),
+                DateTimeFormatter.ISO_DATE_TIME.parse("2012-06-30T12:30+01:00[Europe/Paris]", ZonedDateTime.FROM));
+        assertEquals(test.parse("2012-06-30T12:30:40.5", LocalDateTime.FROM), LocalDateTime.of(2012, 6, 30, 12, 30, 40, 500000000));
+        try {
+            test.parse("2012-06-30T12:30:40.5", ZonedDateTime.FROM);
+            fail();
+        } catch (DateTimeParseException ex) {
+            // expected, zone from previous parse must not be retained
+        }
+    }
+
+    public void test_parse_settingsReset() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+            .appendPattern("yyyy").parseCaseInsensitive().appendLiteral("T").parseCaseSensitive().appendLiteral("X")
+            .appendPattern("MMdd").toFormatter();
+        DateTimeParser test = f.newParser();
+        assertEquals(test.parse("2012tX0630", LocalDate.FROM), LocalDate.of(2012, 6, 30));
+        try {
+            test.parse("2012tx0630", LocalDate.FROM);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 5);
+        }
+    }
+
+    public void test_parse_afterError() {
+        DateTimeParser test = DateTimeFormatter.ISO_LOCAL_DATE.newParser();
+        try {
+            test.parse("2012-06-3X", LocalDate.FROM);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 8);
+        }
+        try {
+            test.parse("2012-02-30", LocalDate.FROM);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 0);
+        }
+        try {
+            test.parse("2012-06-30X", LocalDate.FROM);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 10);
+        }
+        assertEquals(test.parse("2012-06-30", LocalDate.FROM), LocalDate.of(2012, 6, 30));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_parse_nullText() {
+        DateTimeFormatter.ISO_LOCAL_DATE.newParser().parse(null, LocalDate.FROM);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_parse_nullQuery() {
+        DateTimeFormatter.ISO_LOCAL_DATE.newParser().parse("2012-06-30", null);
+    }
+
+    public void test_parseResolved_repeated() {
+        DateTimeParser test = DateTimeFormatter.ISO_DATE.newParser();
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(test.parseResolved("2012-06-30Z", pos, LocalDate.FROM), LocalDate.of(2012, 6, 30));
+        pos = new ParsePosition(0);
+        assertNull(test.parseResolved("2012-06-3", pos, LocalDate.FROM));
+        assertEquals(pos.getErrorIndex(), 8);
+        pos = new ParsePosition(0);
+        assertEquals(test.parseResolved("2011-01-02", pos, LocalDate.FROM), LocalDate.of(2011, 1, 2));
+        assertEquals(pos.getIndex(), 10);
+    }
+
+    public void test_parse_bytes_repeated() throws Exception {
+        DateTimeParser test = DateTimeFormatter.ISO_LOCAL_DATE.newParser();
+        byte[] bytes = "2012-06-30,2011-01-02,2012-06-3X".getBytes("US-ASCII");
+        assertEquals(test.parse(bytes, 0, 10, LocalDate.FROM), LocalDate.of(2012, 6, 30));
+        assertEquals(test.parse(bytes, 11, 10, LocalDate.FROM), LocalDate.of(2011, 1, 2));
+        try {
+            test.parse(bytes, 22, 10, LocalDate.FROM);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getParsedString(), "2012-06-3X");
+            assertEquals(ex.getErrorIndex(), 8);
+        }
+    }
+
+    public void test_parse_ByteBuffer_absolute() throws Exception {
+        DateTimeParser test = DateTimeFormatter.ISO_LOCAL_DATE.newParser();
+        ByteBuffer buf = ByteBuffer.allocateDirect(32);
+        buf.put("2012-06-30,2011-01-02".getBytes("US-ASCII"));
+        assertEquals(test.parse(buf, 11, 10, LocalDate.FROM), LocalDate.of(2011, 1, 2));
+        assertEquals(test.parse(buf, 0, 10, LocalDate.FROM), LocalDate.of(2012, 6, 30));
+        assertEquals(buf.position(), 21);
+    }
+
+    public void test_parseEpochResolved() throws Exception {
+        DateTimeParser test = DateTimeFormatter.ISO_LOCAL_DATE.newParser();
+        assertEquals(test.parseEpochResolved("2012-06-3X", ChronoUnit.DAYS), 0);
+        assertTrue(test.isFailed());
+        assertEquals(test.parseEpochResolved("2012-06-30", ChronoUnit.DAYS), LocalDate.of(2012, 6, 30).toEpochDay());
+        assertFalse(test.isFailed());
+        assertEquals(test.parseEpochResolved("2012-06-30X", ChronoUnit.DAYS), 0);
+        assertTrue(test.isFailed());
+        assertEquals(test.parseEpochResolved("2012-02-30", ChronoUnit.DAYS), 0);
+        assertTrue(test.isFailed());
+        byte[] bytes = "2011-01-02".getBytes("US-ASCII");
+        assertEquals(test.parseEpochResolved(bytes, 0, 10, ChronoUnit.SECONDS), 0);
+        assertTrue(test.isFailed());
+        assertEquals(test.parseEpochResolved(bytes, 0, 10, ChronoUnit.DAYS), LocalDate.of(2011, 1, 2).toEpochDay());
+        assertFalse(test.isFailed());
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_parse_ByteBuffer_beyondLimit() throws Exception {
+        ByteBuffer buf = ByteBuffer.allocate(32);
+        buf.limit(15);
+        DateTimeFormatter.ISO_LOCAL_DATE.newParser().parse(buf, 10, 10, LocalDate.FROM);
+    }
+
+}
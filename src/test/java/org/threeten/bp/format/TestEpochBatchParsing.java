@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.temporal.ChronoUnit;
+
+/**
+ * Test parsing columns of texts to epoch values.
+ */
+@Test
+public class TestEpochBatchParsing {
+
+    private ExecutorService executor;
+
+    @BeforeClass
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static List<String> texts(int size) {
+        List<String> texts = new ArrayList<String>(size);
+        for (int i = 0; i < size; i++) {
+            if (i % 1000 == 7) {
+                texts.add("2012-06-3X");
+            } else {
+                texts.add(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(
+                        Instant.ofEpochMilli(1300000000000L + i * 86400123L).atZone(ZoneId.of("Europe/Paris"))));
+            }
+        }
+        return texts;
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parseEpochs_list() {
+        List<String> texts = Arrays.asList("2012-06-30", "2012-02-30", "1970-01-01", "-0001-12-31", "x");
+        long[] results = new long[6];
+        Arrays.fill(results, 99);
+        BitSet failures = new BitSet();
+        failures.set(0);
+        failures.set(5);
+        int count = DateTimeFormatter.ISO_LOCAL_DATE.newParser().parseEpochs(texts, ChronoUnit.DAYS, results, failures);
+        assertEquals(count, 2);
+        assertEquals(results[0], LocalDate.of(2012, 6, 30).toEpochDay());
+        assertEquals(results[1], 0);
+        assertEquals(results[2], 0);
+        assertEquals(results[3], LocalDate.of(-1, 12, 31).toEpochDay());
+        assertEquals(results[4], 0);
+        assertEquals(results[5], 99);
+        BitSet expected = new BitSet();
+        expected.set(1);
+        expected.set(4);
+        expected.set(5);
+        assertEquals(failures, expected);
+    }
+
+    public void test_parseEpochs_list_units() {
+        List<String> texts = Arrays.asList("2012-06-30T12:30:40.5Z");
+        DateTimeParser parser = DateTimeFormatter.ISO_INSTANT.newParser();
+        long[] results = new long[1];
+        BitSet failures = new BitSet();
+        parser.parseEpochs(texts, ChronoUnit.SECONDS, results, failures);
+        assertEquals(results[0], Instant.parse("2012-06-30T12:30:40Z").getEpochSecond());
+        parser.parseEpochs(texts, ChronoUnit.MILLIS, results, failures);
+        assertEquals(results[0], Instant.parse("2012-06-30T12:30:40.5Z").toEpochMilli());
+        assertTrue(failures.isEmpty());
+    }
+
+    public void test_parseEpochs_bytes_roundTrip() {
+        long[] values = new long[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1300000000000L + i * 3600007L;
+        }
+        byte[] bytes = new byte[values.length * 40];
+        int[] ends = new int[values.length];
+        DateTimeFormatter.ISO_OFFSET_DATE_TIME.formatEpochMillis(values, ZoneId.of("America/New_York"), bytes, 5, ends);
+        long[] results = new long[values.length];
+        BitSet failures = new BitSet();
+        int count = DateTimeFormatter.ISO_OFFSET_DATE_TIME.newParser().parseEpochs(bytes, 5, ends, ChronoUnit.MILLIS, results, failures);
+        assertEquals(count, 0);
+        assertTrue(failures.isEmpty());
+        assertTrue(Arrays.equals(results, values));
+    }
+
+    public void test_parseEpochs_bytes_failure() throws Exception {
+        byte[] bytes = "2012-06-30|2012-06-3X|1970-01-02".getBytes("US-ASCII");
+        int[] ends = {11, 22, 32};
+        long[] results = new long[3];
+        BitSet failures = new BitSet();
+        // the delimiter is part of the first two records, thus they fail
+        int count = DateTimeFormatter.ISO_LOCAL_DATE.newParser().parseEpochs(bytes, 0, ends, ChronoUnit.DAYS, results, failures);
+        assertEquals(count, 2);
+        assertEquals(results[2], 1);
+        assertTrue(failures.get(0));
+        assertTrue(failures.get(1));
+        assertFalse(failures.get(2));
+        // records excluding the delimiter
+        count = DateTimeFormatter.ISO_LOCAL_DATE.newParser().parseEpochs(bytes, 0, new int[] {10}, ChronoUnit.DAYS, results, failures);
+        assertEquals(count, 0);
+        assertEquals(results[0], LocalDate.of(2012, 6, 30).toEpochDay());
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parseEpochs_bytes_endOutsideArray() {
+        DateTimeFormatter.ISO_LOCAL_DATE.newParser().parseEpochs(new byte[10], 0, new int[] {11}, ChronoUnit.DAYS, new long[1], new BitSet());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_parseEpochs_invalidUnit() {
+        DateTimeFormatter.ISO_LOCAL_DATE.newParser().parseEpochs(Arrays.asList("2012-06-30"), ChronoUnit.HOURS, new long[1], new BitSet());
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parseEpochs_resultsTooShort() {
+        DateTimeFormatter.ISO_LOCAL_DATE.newParser().parseEpochs(Arrays.asList("2012-06-30", "2012-06-30"), ChronoUnit.DAYS, new long[1], new BitSet());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parseEpochs_nullFailures() {
+        DateTimeFormatter.ISO_LOCAL_DATE.newParser().parseEpochs(Arrays.asList("2012-06-30"), ChronoUnit.DAYS, new long[1], null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parseEpochs_parallel_list() {
+        List<String> texts = texts(20000);
+        long[] expected = new long[texts.size()];
+        BitSet expectedFailures = new BitSet();
+        int expectedCount = DateTimeFormatter.ISO_OFFSET_DATE_TIME.newParser().parseEpochs(texts, ChronoUnit.MILLIS, expected, expectedFailures);
+        assertEquals(expectedCount, 20);
+
+        long[] results = new long[texts.size()];
+        BitSet failures = new BitSet();
+        failures.set(0);
+        int count = DateTimeFormatter.ISO_OFFSET_DATE_TIME.parseEpochs(texts, ChronoUnit.MILLIS, results, failures, executor);
+        assertEquals(count, expectedCount);
+        assertEquals(failures, expectedFailures);
+        assertTrue(Arrays.equals(results, expected));
+    }
+
+    public void test_parseEpochs_parallel_bytes() {
+        long[] values = new long[20000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1300000000000L + i * 60001L;
+        }
+        byte[] bytes = new byte[values.length * 40];
+        int[] ends = new int[values.length];
+        DateTimeFormatter.ISO_INSTANT.formatEpochMillis(values, ZoneOffset.UTC, bytes, 0, ends);
+        bytes[ends[5000] - 1] = 'X';
+        long[] results = new long[values.length];
+        BitSet failures = new BitSet();
+        int count = DateTimeFormatter.ISO_INSTANT.parseEpochs(bytes, 0, ends, ChronoUnit.MILLIS, results, failures, executor);
+        assertEquals(count, 1);
+        assertEquals(failures.nextSetBit(0), 5000);
+        assertEquals(results[5000], 0);
+        results[5000] = values[5000];
+        assertTrue(Arrays.equals(results, values));
+    }
+
+    public void test_parseEpochs_parallel_small() {
+        long[] results = new long[2];
+        BitSet failures = new BitSet();
+        int count = DateTimeFormatter.ISO_LOCAL_DATE.parseEpochs(Arrays.asList("1970-01-02", "x"), ChronoUnit.DAYS, results, failures, executor);
+        assertEquals(count, 1);
+        assertEquals(results[0], 1);
+        assertTrue(failures.get(1));
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.temporal.IsoFields;
+import org.threeten.bp.temporal.WeekFields;
+
+/**
+ * Test formatting arrays of epoch values.
+ */
+@Test
+public class TestEpochBatchPrinting {
+
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+    private static final ZoneId AMSTERDAM = ZoneId.of("Europe/Amsterdam");
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final long[] VALUES = values();
+
+    private static long[] values() {
+        long[] values = new long[2000];
+        int i = 0;
+        // sorted across transitions, with varying fractions
+        long base = LocalDateTime.of(2012, 3, 24, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+        for (; i < 500; i++) {
+            base += 3600 * 1000L + i * 7;
+            values[i] = base;
+        }
+        // boundaries
+        values[i++] = 0;
+        values[i++] = -1;
+        values[i++] = 1;
+        values[i++] = LocalDateTime.of(0, 1, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+        values[i++] = LocalDateTime.of(0, 1, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli() - 1;
+        values[i++] = LocalDateTime.of(9999, 12, 31, 23, 59, 59).toInstant(ZoneOffset.UTC).toEpochMilli();
+        values[i++] = LocalDateTime.of(10000, 1, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+        values[i++] = LocalDateTime.of(1930, 6, 1, 12, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+        values[i++] = LocalDateTime.of(1850, 6, 1, 12, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+        values[i++] = LocalDateTime.of(2200, 10, 1, 12, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+        // random, unsorted
+        Random random = new Random(42);
+        for (; i < values.length; i++) {
+            values[i] = (random.nextLong() % (400L * 365 * 86400 * 1000)) + 315532800000L;
+        }
+        return values;
+    }
+
+    @DataProvider(name = "formatters")
+    Object[][] data_formatters() {
+        return new Object[][] {
+            {DateTimeFormatter.ISO_INSTANT},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME},
+            {DateTimeFormatter.ISO_LOCAL_DATE},
+            {DateTimeFormatter.ISO_ZONED_DATE_TIME},
+            {DateTimeFormatter.RFC_1123_DATE_TIME},
+            {DateTimeFormatter.ISO_WEEK_DATE},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME.withZone(ZoneOffset.UTC)},
+            {DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss.SSS XXXXX '['VV']'")},
+            {DateTimeFormatter.ofPattern("EEEE d MMMM uuuu HH:mm z", Locale.GERMAN)},
+            {new DateTimeFormatterBuilder().appendValue(IsoFields.WEEK_BASED_YEAR).appendLiteral('-')
+                    .appendValue(WeekFields.ISO.weekOfWeekBasedYear()).appendLiteral(' ').appendInstant(3).toFormatter()},
+        };
+    }
+
+    @DataProvider(name = "zones")
+    Object[][] data_zones() {
+        return new Object[][] {
+            {ZoneOffset.UTC},
+            {ZoneOffset.ofHoursMinutes(5, 30)},
+            {ZoneOffset.ofHoursMinutesSeconds(-3, -20, -15)},
+            {LONDON},
+            {AMSTERDAM},
+            {NEW_YORK},
+        };
+    }
+
+    @DataProvider(name = "combinations")
+    Object[][] data_combinations() {
+        Object[][] formatters = data_formatters();
+        Object[][] zones = data_zones();
+        Object[][] combinations = new Object[formatters.length * zones.length][];
+        for (int i = 0; i < formatters.length; i++) {
+            for (int j = 0; j < zones.length; j++) {
+                combinations[i * zones.length + j] = new Object[] {formatters[i][0], zones[j][0]};
+            }
+        }
+        return combinations;
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "combinations")
+    public void test_formatEpochMillis_chars(DateTimeFormatter formatter, ZoneId zone) {
+        long[] values = printable(formatter, zone);
+        char[] chars = new char[values.length * 64];
+        int[] ends = new int[values.length];
+        int end = formatter.formatEpochMillis(values, zone, chars, 3, ends);
+        int start = 3;
+        for (int i = 0; i < values.length; i++) {
+            String expected = formatter.format(Instant.ofEpochMilli(values[i]).atZone(zone));
+            assertEquals(new String(chars, start, ends[i] - start), expected, "value " + values[i]);
+            start = ends[i];
+        }
+        assertEquals(end, start);
+    }
+
+    @Test(dataProvider = "combinations")
+    public void test_formatEpochMillis_bytes(DateTimeFormatter formatter, ZoneId zone) throws Exception {
+        long[] values = printable(formatter, zone);
+        byte[] bytes = new byte[values.length * 64];
+        int[] ends = new int[values.length];
+        int end = formatter.formatEpochMillis(values, zone, bytes, 0, ends);
+        int start = 0;
+        for (int i = 0; i < values.length; i++) {
+            String expected = formatter.format(Instant.ofEpochMilli(values[i]).atZone(zone));
+            assertEquals(new String(bytes, start, ends[i] - start, "UTF-8"), expected, "value " + values[i]);
+            start = ends[i];
+        }
+        assertEquals(end, start);
+    }
+
+    /**
+     * Returns the values that the formatter can print, checking that the others fail in the same way.
+     */
+    private static long[] printable(DateTimeFormatter formatter, ZoneId zone) {
+        long[] values = new long[VALUES.length];
+        int count = 0;
+        for (long value : VALUES) {
+            try {
+                formatter.format(Instant.ofEpochMilli(value).atZone(zone));
+                values[count++] = value;
+            } catch (DateTimeException ex) {
+                try {
+                    formatter.formatEpochMillis(new long[] {value}, zone, new char[64], 0, new int[1]);
+                    fail("value " + value);
+                } catch (DateTimeException ex2) {
+                    assertEquals(ex2.getMessage(), ex.getMessage());
+                }
+            }
+        }
+        return Arrays.copyOf(values, count);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_formatEpochMillis_empty() {
+        assertEquals(DateTimeFormatter.ISO_INSTANT.formatEpochMillis(new long[0], ZoneOffset.UTC, new char[4], 4, new int[0]), 4);
+    }
+
+    public void test_formatEpochMillis_arrayTooSmall() {
+        long[] values = {0, 1000};
+        char[] chars = new char[30];
+        int[] ends = new int[2];
+        try {
+            DateTimeFormatter.ISO_INSTANT.formatEpochMillis(values, ZoneOffset.UTC, chars, 0, ends);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {
+            // first value written before failing
+            assertEquals(ends[0], 20);
+            assertEquals(new String(chars, 0, 20), "1970-01-01T00:00:00Z");
+            assertEquals(ends[1], 0);
+        }
+    }
+
+    public void test_formatEpochMillis_bytesTooSmall_general() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMMM", Locale.GERMAN);
+        long[] values = {LocalDateTime.of(2012, 3, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli()};
+        try {
+            // März is five bytes in UTF-8
+            formatter.formatEpochMillis(values, ZoneOffset.UTC, new byte[4], 0, new int[1]);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {
+            // expected
+        }
+        assertEquals(formatter.formatEpochMillis(values, ZoneOffset.UTC, new byte[5], 0, new int[1]), 5);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_formatEpochMillis_endsTooShort() {
+        DateTimeFormatter.ISO_INSTANT.formatEpochMillis(new long[2], ZoneOffset.UTC, new char[64], 0, new int[1]);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_formatEpochMillis_invalidOffset() {
+        DateTimeFormatter.ISO_INSTANT.formatEpochMillis(new long[0], ZoneOffset.UTC, new byte[4], 5, new int[0]);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_formatEpochMillis_nullZone() {
+        DateTimeFormatter.ISO_INSTANT.formatEpochMillis(new long[0], null, new char[4], 0, new int[0]);
+    }
+
+}
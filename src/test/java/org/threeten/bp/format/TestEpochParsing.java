@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+
+/**
+ * Test parsing to epoch values.
+ */
+@Test
+public class TestEpochParsing {
+
+    private static final DateTimeFormatter LENIENT_DATE = DateTimeFormatter.ISO_LOCAL_DATE.withResolverStyle(ResolverStyle.LENIENT);
+    private static final DateTimeFormatter STRICT_PATTERN = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm").withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter YEAR_OF_ERA = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DAY_OF_WEEK = DateTimeFormatter.ofPattern("EEE yyyy-MM-dd", java.util.Locale.ENGLISH);
+    private static final DateTimeFormatter HOUR_ONLY = DateTimeFormatter.ofPattern("yyyy-MM-dd HHX");
+
+    @DataProvider(name = "epochDay")
+    Object[][] data_epochDay() {
+        return new Object[][] {
+            {DateTimeFormatter.ISO_LOCAL_DATE, "1970-01-01"},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-02-29"},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "1969-12-31"},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "0000-03-01"},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "-0001-12-31"},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "+999999999-12-31"},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "-999999999-01-01"},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T23:59:59.999"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T12:30+01:00"},
+            {DateTimeFormatter.ISO_ZONED_DATE_TIME, "2012-06-30T12:30+01:00[Europe/Paris]"},
+            {DateTimeFormatter.BASIC_ISO_DATE, "20120630"},
+            {DateTimeFormatter.ISO_DATE, "2012-06-30Z"},
+            {DateTimeFormatter.ISO_DATE.withResolverStyle(ResolverStyle.SMART), "2012-02-30"},
+            {LENIENT_DATE, "2012-02-30"},
+            {LENIENT_DATE, "2012-13-01"},
+            {DateTimeFormatter.ISO_ORDINAL_DATE, "2012-181"},
+            {DateTimeFormatter.ISO_WEEK_DATE, "2012-W26-6"},
+            {STRICT_PATTERN, "2012-06-30 12:30"},
+            {YEAR_OF_ERA, "2012-06-30"},
+            {DAY_OF_WEEK, "Sat 2012-06-30"},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME.withResolverStyle(ResolverStyle.SMART), "2012-06-30T24:00"},
+        };
+    }
+
+    @Test(dataProvider = "epochDay")
+    public void test_parseEpochDay(DateTimeFormatter formatter, String text) {
+        long expected = formatter.parse(text, LocalDate.FROM).toEpochDay();
+        assertEquals(formatter.parseEpochDay(text), expected);
+        assertEquals(formatter.newParser().parseEpochDay(text), expected);
+    }
+
+    @DataProvider(name = "epochSecond")
+    Object[][] data_epochSecond() {
+        return new Object[][] {
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "1970-01-01T00:00Z"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T12:30:40.123456789+01:00"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "1969-12-31T23:59:59.999-18:00"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "-0001-12-31T23:59:59.5+18:00"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "+292278994-08-17T07:12:55.807Z"},
+            {DateTimeFormatter.ISO_ZONED_DATE_TIME, "2012-06-30T12:30+01:00[Europe/Paris]"},
+            {DateTimeFormatter.ISO_ZONED_DATE_TIME, "2012-10-28T02:30+01:00[Europe/Paris]"},
+            {DateTimeFormatter.ISO_ZONED_DATE_TIME, "2012-06-30T12:30+01:00[+02:00]"},
+            {DateTimeFormatter.ISO_INSTANT, "2012-06-30T12:30:40.5Z"},
+            {DateTimeFormatter.ISO_INSTANT, "1969-12-31T23:59:59.999Z"},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME.withZone(ZoneOffset.ofHours(2)), "2012-06-30T12:30"},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME.withZone(ZoneId.of("Europe/Paris")), "2012-06-30T12:30"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME.withZone(ZoneOffset.ofHours(2)), "2012-06-30T12:30+01:00"},
+            {DateTimeFormatter.RFC_1123_DATE_TIME, "Sat, 30 Jun 2012 12:30:40 GMT"},
+            {HOUR_ONLY, "2012-06-30 12+01"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME.withResolverStyle(ResolverStyle.LENIENT), "2012-06-30T25:30+01:00"},
+        };
+    }
+
+    @Test(dataProvider = "epochSecond")
+    public void test_parseEpochSecond(DateTimeFormatter formatter, String text) {
+        Instant expected = formatter.parse(text, Instant.FROM);
+        assertEquals(formatter.parseEpochSecond(text), expected.getEpochSecond());
+        assertEquals(formatter.newParser().parseEpochSecond(text), expected.getEpochSecond());
+    }
+
+    @Test(dataProvider = "epochSecond")
+    public void test_parseEpochMilli(DateTimeFormatter formatter, String text) {
+        Instant expected = formatter.parse(text, Instant.FROM);
+        assertEquals(formatter.parseEpochMilli(text), expected.toEpochMilli());
+        assertEquals(formatter.newParser().parseEpochMilli(text), expected.toEpochMilli());
+    }
+
+    public void test_parseEpochSecond_max() {
+        String text = "+999999999-12-31T23:59:59.999999999-18:00";
+        assertEquals(DateTimeFormatter.ISO_OFFSET_DATE_TIME.parseEpochSecond(text),
+                DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(text, Instant.FROM).getEpochSecond());
+    }
+
+    public void test_parseEpochMilli_overflow() {
+        try {
+            DateTimeFormatter.ISO_OFFSET_DATE_TIME.parseEpochMilli("+292278994-08-17T07:12:55.808Z");
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 0);
+            assertEquals(ex.getCause().getClass(), ArithmeticException.class);
+        }
+    }
+
+    public void test_parser_repeated() {
+        DateTimeParser test = DateTimeFormatter.ISO_OFFSET_DATE_TIME.newParser();
+        assertEquals(test.parseEpochSecond("1970-01-01T00:00:01Z"), 1L);
+        assertEquals(test.parseEpochMilli("1970-01-01T00:00:01.5+00:00"), 1500L);
+        assertEquals(test.parseEpochDay("1970-01-02T00:00Z"), 1L);
+        assertEquals(test.parseEpochSecond("1970-01-01T01:00:00+01:00"), 0L);
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "invalid")
+    Object[][] data_invalid() {
+        return new Object[][] {
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-06-3", 8},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-06-30X", 10},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-02-30", 0},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-13-01", 0},
+            {STRICT_PATTERN, "2012-02-30 12:30", 0},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T24:30", 0},
+        };
+    }
+
+    @Test(dataProvider = "invalid")
+    public void test_parseEpochDay_invalid(DateTimeFormatter formatter, String text, int errorIndex) {
+        try {
+            formatter.parseEpochDay(text);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), errorIndex);
+            assertEquals(ex.getParsedString(), text);
+        }
+    }
+
+    public void test_parseEpochSecond_noOffset() {
+        try {
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME.parseEpochSecond("2012-06-30T12:30");
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 0);
+        }
+    }
+
+    public void test_parseEpochMilli_noTime() {
+        try {
+            DateTimeFormatter.ISO_DATE.parseEpochMilli("2012-06-30Z");
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 0);
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parseEpochDay_null() {
+        DateTimeFormatter.ISO_LOCAL_DATE.parseEpochDay(null);
+    }
+
+}
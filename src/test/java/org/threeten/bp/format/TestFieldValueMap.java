@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.temporal.IsoFields;
+import org.threeten.bp.temporal.TemporalField;
+
+/**
+ * Test FieldValueMap.
+ */
+@Test
+public class TestFieldValueMap {
+
+    public void test_empty() {
+        FieldValueMap test = new FieldValueMap();
+        assertEquals(test.size(), 0);
+        assertTrue(test.isEmpty());
+        assertFalse(test.containsKey(YEAR));
+        assertNull(test.get(YEAR));
+        assertNull(test.get(IsoFields.QUARTER_OF_YEAR));
+        assertNull(test.remove(YEAR));
+        assertEquals(test.toString(), "{}");
+    }
+
+    public void test_putValue_getValue() {
+        FieldValueMap test = new FieldValueMap();
+        test.putValue(YEAR, 2012);
+        test.putValue(IsoFields.QUARTER_OF_YEAR, 3);
+        assertEquals(test.size(), 2);
+        assertEquals(test.getValue(YEAR), 2012);
+        assertEquals(test.getValue(IsoFields.QUARTER_OF_YEAR), 3);
+        assertEquals(test.get(YEAR), Long.valueOf(2012));
+        assertTrue(test.containsKey(YEAR));
+        assertTrue(test.containsKey(IsoFields.QUARTER_OF_YEAR));
+        test.putValue(YEAR, 2013);
+        assertEquals(test.getValue(YEAR), 2013);
+        assertEquals(test.size(), 2);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_getValue_notPresent() {
+        new FieldValueMap().getValue(YEAR);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_getValue_notPresentOther() {
+        new FieldValueMap().getValue(IsoFields.QUARTER_OF_YEAR);
+    }
+
+    public void test_put_remove() {
+        FieldValueMap test = new FieldValueMap();
+        assertNull(test.put(MONTH_OF_YEAR, 6L));
+        assertEquals(test.put(MONTH_OF_YEAR, 7L), Long.valueOf(6));
+        assertEquals(test.remove(MONTH_OF_YEAR), Long.valueOf(7));
+        assertFalse(test.containsKey(MONTH_OF_YEAR));
+        assertFalse(test.removeField(MONTH_OF_YEAR));
+        test.putValue(MONTH_OF_YEAR, 8);
+        assertEquals(test.removeValue(MONTH_OF_YEAR), 8);
+        assertTrue(test.isEmpty());
+    }
+
+    public void test_iteration_orderAndRemove() {
+        FieldValueMap test = new FieldValueMap();
+        test.putValue(YEAR, 2012);
+        test.putValue(IsoFields.QUARTER_OF_YEAR, 3);
+        test.putValue(DAY_OF_MONTH, 30);
+        test.putValue(MONTH_OF_YEAR, 6);
+        assertEquals(test.toString(), "{DayOfMonth=30, MonthOfYear=6, Year=2012, QuarterOfYear=3}");
+        Iterator<Entry<TemporalField, Long>> it = test.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry<TemporalField, Long> entry = it.next();
+            if (entry.getKey() == MONTH_OF_YEAR || entry.getKey() == IsoFields.QUARTER_OF_YEAR) {
+                it.remove();
+            }
+        }
+        assertEquals(test.toString(), "{DayOfMonth=30, Year=2012}");
+    }
+
+    public void test_keySet_retainAll() {
+        FieldValueMap test = new FieldValueMap();
+        test.putValue(YEAR, 2012);
+        test.putValue(MONTH_OF_YEAR, 6);
+        test.putValue(IsoFields.QUARTER_OF_YEAR, 3);
+        test.keySet().retainAll(Collections.singleton(MONTH_OF_YEAR));
+        assertEquals(test.size(), 1);
+        assertEquals(test.getValue(MONTH_OF_YEAR), 6);
+    }
+
+    public void test_putAll_equals() {
+        FieldValueMap base = new FieldValueMap();
+        base.putValue(YEAR, 2012);
+        base.putValue(IsoFields.QUARTER_OF_YEAR, 3);
+        FieldValueMap test = new FieldValueMap();
+        test.putValue(DAY_OF_MONTH, 1);
+        test.putAll(base);
+        Map<TemporalField, Long> expected = new HashMap<TemporalField, Long>();
+        expected.put(YEAR, 2012L);
+        expected.put(IsoFields.QUARTER_OF_YEAR, 3L);
+        expected.put(DAY_OF_MONTH, 1L);
+        assertEquals(test, expected);
+        assertEquals(expected, test);
+        assertEquals(test.hashCode(), expected.hashCode());
+    }
+
+}
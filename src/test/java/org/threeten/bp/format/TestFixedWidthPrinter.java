@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.threeten.bp.temporal.ChronoField.MICRO_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.MILLI_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.NANO_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.format.DateTimeFormatterBuilder.DateTimePrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.FixedWidthPrinter;
+import org.threeten.bp.format.DateTimeFormatterBuilder.FractionPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.NumberPrinterParser;
+import org.threeten.bp.temporal.MockFieldValue;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalField;
+
+/**
+ * Test FixedWidthPrinter.
+ */
+@Test
+public class TestFixedWidthPrinter extends AbstractTestPrinterParser {
+
+    //-----------------------------------------------------------------------
+    // compile
+    //-----------------------------------------------------------------------
+    public void test_compile_numeric() throws Exception {
+        DateTimePrinterParser[] pps = new DateTimePrinterParser[] {
+            new NumberPrinterParser(YEAR, 4, 10, SignStyle.EXCEEDS_PAD),
+            new FractionPrinterParser(NANO_OF_SECOND, 3, 3, true),
+        };
+        assertNotNull(FixedWidthPrinter.compile(pps));
+    }
+
+    public void test_compile_literalsOnly() throws Exception {
+        assertNull(compile(new DateTimeFormatterBuilder().appendLiteral("abc")));
+    }
+
+    public void test_compile_text() throws Exception {
+        assertNull(compile(new DateTimeFormatterBuilder().appendPattern("yyyy MMM")));
+    }
+
+    public void test_compile_optional() throws Exception {
+        assertNull(compile(new DateTimeFormatterBuilder().appendPattern("yyyy[-MM]")));
+    }
+
+    public void test_compile_signAlways() throws Exception {
+        DateTimePrinterParser[] pps = new DateTimePrinterParser[] {
+            new NumberPrinterParser(YEAR, 4, 10, SignStyle.ALWAYS),
+        };
+        assertNull(FixedWidthPrinter.compile(pps));
+    }
+
+    private static FixedWidthPrinter compile(DateTimeFormatterBuilder builder) {
+        return FixedWidthPrinter.compile(new DateTimePrinterParser[] {builder.toFormatter().toPrinterParser(false)});
+    }
+
+    //-----------------------------------------------------------------------
+    // print
+    //-----------------------------------------------------------------------
+    @DataProvider(name="print")
+    Object[][] data_print() {
+        return new Object[][] {
+            {"yyyy-MM-dd", LocalDate.of(2012, 6, 30), "2012-06-30"},
+            {"yyyy-MM-dd", LocalDate.of(12, 6, 30), "0012-06-30"},
+            {"yyyy-MM-dd", LocalDate.of(12345, 6, 30), "+12345-06-30"},
+            {"uuuu-MM-dd", LocalDate.of(-12, 6, 30), "-0012-06-30"},
+            {"yyyyMMdd", LocalDate.of(2012, 1, 2), "20120102"},
+            {"yyyy-MM-dd'T'HH:mm:ss.SSS", LocalDateTime.of(2012, 6, 30, 1, 2, 3, 4000000), "2012-06-30T01:02:03.004"},
+            {"yyyy-MM-dd'T'HH:mm:ss.SSS", LocalDateTime.of(2012, 6, 30, 1, 2, 3, 0), "2012-06-30T01:02:03.000"},
+            {"yyyy-MM-dd'T'HH:mm:ss.SSS", LocalDateTime.of(2012, 6, 30, 1, 2, 3, 999999999), "2012-06-30T01:02:03.999"},
+            {"HH:mm:ss.SSSSSSSSS", LocalTime.of(23, 59, 59, 1), "23:59:59.000000001"},
+            {"d/M/y", LocalDate.of(2012, 6, 3), "3/6/2012"},
+        };
+    }
+
+    @Test(dataProvider="print")
+    public void test_print(String pattern, TemporalAccessor temporal, String expected) throws Exception {
+        DateTimeFormatter f = DateTimeFormatter.ofPattern(pattern);
+        assertEquals(f.format(temporal), expected);
+    }
+
+    @Test(dataProvider="print")
+    public void test_print_matchesDecimalStyle(String pattern, TemporalAccessor temporal, String expected) throws Exception {
+        // a non-standard decimal style is printed by the uncompiled printer-parsers
+        DateTimeFormatter f = DateTimeFormatter.ofPattern(pattern).withDecimalStyle(DecimalStyle.STANDARD.withZeroDigit('A'));
+        String converted = f.format(temporal);
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < converted.length(); i++) {
+            char ch = converted.charAt(i);
+            buf.append(ch >= 'A' && ch <= 'J' ? (char) (ch - 'A' + '0') : ch);
+        }
+        assertEquals(buf.toString(), expected);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_print_unsupportedField() throws Exception {
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH").format(LocalDate.of(2012, 6, 30));
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_print_exceedsMaxWidth() throws Exception {
+        DateTimeFormatter f = new DateTimeFormatterBuilder().appendValue(YEAR, 2).toFormatter();
+        f.format(LocalDate.of(2012, 6, 30));
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_print_negativeNotAllowed() throws Exception {
+        DateTimeFormatter f = new DateTimeFormatterBuilder().appendValue(YEAR, 4).toFormatter();
+        f.format(LocalDate.of(-2012, 6, 30));
+    }
+
+    public void test_print_nestedInOptional() throws Exception {
+        DateTimeFormatter inner = DateTimeFormatter.ofPattern("HH:mm");
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+            .appendPattern("yyyy-MM-dd").optionalStart().appendLiteral(' ').append(inner).toFormatter();
+        assertEquals(f.format(LocalDate.of(2012, 6, 30)), "2012-06-30 ");
+        assertEquals(f.format(LocalDateTime.of(2012, 6, 30, 11, 5)), "2012-06-30 11:05");
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name="fractionFields")
+    Object[][] data_fractionFields() {
+        return new Object[][] {
+            {NANO_OF_SECOND, new long[] {0, 1, 20, 123, 5000, 120000, 1234567, 10000000, 123456789, 999999999}},
+            {MICRO_OF_SECOND, new long[] {0, 1, 20, 123, 5000, 120000, 999999}},
+            {MILLI_OF_SECOND, new long[] {0, 1, 20, 123, 500, 999}},
+        };
+    }
+
+    @Test(dataProvider="fractionFields")
+    public void test_print_fraction_matchesFractionPrinter(TemporalField field, long[] values) throws Exception {
+        for (int minWidth = 0; minWidth <= 9; minWidth++) {
+            for (int maxWidth = Math.max(minWidth, 1); maxWidth <= 9; maxWidth++) {
+                for (boolean decimalPoint : new boolean[] {true, false}) {
+                    FractionPrinterParser pp = new FractionPrinterParser(field, minWidth, maxWidth, decimalPoint);
+                    FixedWidthPrinter compiled = FixedWidthPrinter.compile(new DateTimePrinterParser[] {pp});
+                    for (long value : values) {
+                        printContext.setDateTime(new MockFieldValue(field, value));
+                        StringBuilder expected = new StringBuilder();
+                        pp.print(printContext, expected);
+                        StringBuilder actual = new StringBuilder();
+                        compiled.print(printContext, actual);
+                        assertEquals(actual.toString(), expected.toString(), pp + " " + value);
+                    }
+                }
+            }
+        }
+    }
+
+}
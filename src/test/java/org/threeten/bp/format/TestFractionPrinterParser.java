@@ -33,16 +33,29 @@ package org.threeten.bp.format;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.fail;
+import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
+import static org.threeten.bp.temporal.ChronoField.MICRO_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.MICRO_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.MILLI_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.MILLI_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.MINUTE_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.NANO_OF_DAY;
 import static org.threeten.bp.temporal.ChronoField.NANO_OF_SECOND;
 import static org.threeten.bp.temporal.ChronoField.SECOND_OF_MINUTE;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Locale;
+
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalTime;
+import org.threeten.bp.chrono.IsoChronology;
 import org.threeten.bp.format.DateTimeFormatterBuilder.FractionPrinterParser;
 import org.threeten.bp.temporal.MockFieldValue;
 import org.threeten.bp.temporal.TemporalField;
+import org.threeten.bp.temporal.ValueRange;
 
 /**
  * Test FractionPrinterParser.
@@ -166,6 +179,42 @@ public class TestFractionPrinterParser extends AbstractTestPrinterParser {
         assertEquals(buf.toString(), (result.startsWith(".") ? result.substring(1) : result));
     }
 
+    //-----------------------------------------------------------------------
+    @DataProvider(name="Millis")
+    Object[][] provider_millis() {
+        return new Object[][] {
+            {0, 9, 0,       ""},
+            {0, 9, 2,       ".002"},
+            {0, 9, 20,      ".02"},
+            {0, 9, 200,     ".2"},
+            {0, 9, 123,     ".123"},
+            {1, 2, 0,       ".0"},
+            {1, 2, 123,     ".12"},
+            {6, 6, 5,       ".005000"},
+            {9, 9, 999,     ".999000000"},
+            {0, 9, 1000,    null},
+            {0, 9, -1,      null},
+        };
+    }
+
+    @Test(dataProvider="Millis")
+    public void test_print_millis(int minWidth, int maxWidth, int value, String result) throws Exception {
+        printContext.setDateTime(new MockFieldValue(MILLI_OF_SECOND, value));
+        FractionPrinterParser pp = new FractionPrinterParser(MILLI_OF_SECOND, minWidth, maxWidth, true);
+        try {
+            pp.print(printContext, buf);
+            if (result == null) {
+                fail("Expected exception");
+            }
+        } catch (DateTimeException ex) {
+            if (result != null) {
+                throw ex;
+            }
+            return;
+        }
+        assertEquals(buf.toString(), result);
+    }
+
     //-----------------------------------------------------------------------
     @DataProvider(name="Seconds")
     Object[][] provider_seconds() {
@@ -201,6 +250,48 @@ public class TestFractionPrinterParser extends AbstractTestPrinterParser {
         assertEquals(buf.toString(), result);
     }
 
+    @DataProvider(name="RangeFields")
+    Object[][] provider_rangeFields() {
+        return new Object[][] {
+            {SECOND_OF_MINUTE},
+            {MINUTE_OF_DAY},
+            {MILLI_OF_DAY},
+            {MICRO_OF_DAY},
+            {NANO_OF_DAY},
+            {EPOCH_DAY},
+        };
+    }
+
+    @Test(dataProvider="RangeFields")
+    public void test_print_matchesBigDecimal(TemporalField field) throws Exception {
+        ValueRange range = field.range();
+        BigDecimal minBD = BigDecimal.valueOf(range.getMinimum());
+        BigDecimal rangeBD = BigDecimal.valueOf(range.getMaximum()).subtract(minBD).add(BigDecimal.ONE);
+        long[] offsets = {0, 1, 2, 3, 7, 59, 1000, 86399999, 86399999999L, range.getMaximum() - range.getMinimum()};
+        for (long offset : offsets) {
+            long value = range.getMinimum() + offset;
+            if (value > range.getMaximum()) {
+                continue;
+            }
+            BigDecimal fraction = BigDecimal.valueOf(value).subtract(minBD).divide(rangeBD, 9, RoundingMode.FLOOR);
+            for (int width = 1; width <= 9; width++) {
+                int minWidth = (width == 9 ? 9 : 0);
+                String expected = "";
+                if (fraction.signum() == 0) {
+                    expected = (minWidth == 9 ? ".000000000" : "");
+                } else {
+                    fraction = fraction.stripTrailingZeros();
+                    int scale = Math.min(Math.max(fraction.scale(), minWidth), width);
+                    expected = "." + fraction.setScale(scale, RoundingMode.FLOOR).toPlainString().substring(2);
+                }
+                buf.setLength(0);
+                printContext.setDateTime(new MockFieldValue(field, value));
+                new FractionPrinterParser(field, minWidth, width, true).print(printContext, buf);
+                assertEquals(buf.toString(), expected, field + " " + value + " " + width);
+            }
+        }
+    }
+
     @Test(dataProvider="Seconds")
     public void test_print_seconds_noDecimalPoint(int minWidth, int maxWidth, int value, String result) throws Exception {
         printContext.setDateTime(new MockFieldValue(SECOND_OF_MINUTE, value));
@@ -276,6 +367,37 @@ public class TestFractionPrinterParser extends AbstractTestPrinterParser {
         assertParsed(parseContext, SECOND_OF_MINUTE, value == 0 && minWidth == 0 ? null : (long) value);
     }
 
+    @DataProvider(name="ParseFields")
+    Object[][] provider_parseFields() {
+        return new Object[][] {
+            {NANO_OF_SECOND},
+            {MICRO_OF_SECOND},
+            {MILLI_OF_SECOND},
+            {SECOND_OF_MINUTE},
+            {MILLI_OF_DAY},
+            {MICRO_OF_DAY},
+            {EPOCH_DAY},
+        };
+    }
+
+    @Test(dataProvider="ParseFields")
+    public void test_parse_matchesBigDecimal(TemporalField field) throws Exception {
+        ValueRange range = field.range();
+        BigDecimal minBD = BigDecimal.valueOf(range.getMinimum());
+        BigDecimal rangeBD = BigDecimal.valueOf(range.getMaximum()).subtract(minBD).add(BigDecimal.ONE);
+        String[] texts = {".0", ".5", ".05", ".123", ".999", ".000001", ".123456789", ".999999999", ".100000000", ".0000000001"};
+        FractionPrinterParser pp = new FractionPrinterParser(field, 0, 9, true);
+        for (String text : texts) {
+            String digits = text.substring(1, Math.min(text.length(), 10));
+            BigDecimal fraction = new BigDecimal(Integer.parseInt(digits)).movePointLeft(digits.length());
+            long expected = fraction.multiply(rangeBD).setScale(0, RoundingMode.FLOOR).add(minBD).longValueExact();
+            DateTimeParseContext context = new DateTimeParseContext(Locale.ENGLISH, DecimalStyle.STANDARD, IsoChronology.INSTANCE);
+            int newPos = pp.parse(context, text, 0);
+            assertEquals(newPos, Math.min(text.length(), 10), text);
+            assertEquals(context.getParsed(field), Long.valueOf(expected), field + " " + text);
+        }
+    }
+
     private void assertParsed(DateTimeParseContext context, TemporalField field, Long value) {
         if (value == null) {
             assertEquals(context.getParsed(field), null);
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+import java.text.ParsePosition;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.format.DateTimeParseContext.Parsed;
+
+/**
+ * Test IsoFastParser.
+ */
+@Test
+public class TestIsoFastParser {
+
+    @DataProvider(name = "accepted")
+    Object[][] data_accepted() {
+        return new Object[][] {
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-06-30"},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-02-29"},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "0000-01-01"},
+            {DateTimeFormatter.ISO_LOCAL_TIME, "00:00"},
+            {DateTimeFormatter.ISO_LOCAL_TIME, "23:59:59"},
+            {DateTimeFormatter.ISO_LOCAL_TIME, "12:30:40.5"},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T12:30"},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T12:30:40"},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T12:30:40.123"},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T12:30:40.123456789"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T12:30Z"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T12:30:40.001+01:00"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T12:30:40-00:00"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "0001-01-01T00:00+18:00"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "9999-12-31T23:59:59.999999999-18:00"},
+            {DateTimeFormatter.ISO_ZONED_DATE_TIME, "2012-06-30T12:30+05:30"},
+            {DateTimeFormatter.ISO_DATE_TIME, "2012-06-30T12:30"},
+            {DateTimeFormatter.ISO_DATE_TIME, "2012-06-30T12:30:40Z"},
+            {DateTimeFormatter.ISO_INSTANT, "2012-06-30T12:30:40Z"},
+            {DateTimeFormatter.ISO_INSTANT, "1969-12-31T23:59:59.999Z"},
+            {DateTimeFormatter.ISO_INSTANT, "0000-01-01T00:00:00.000000001Z"},
+        };
+    }
+
+    @Test(dataProvider = "accepted")
+    public void test_accepted(DateTimeFormatter formatter, String text) {
+        DateTimeBuilder fast = IsoFastParser.parse(formatter, text, null);
+        assertNotNull(fast);
+        DateTimeBuilder general = parseGeneral(formatter, text);
+        assertEquals(fast.toString(), general.toString());
+        assertEquals(fast.leapSecond, general.leapSecond);
+        assertEquals(fast.excessDays, general.excessDays);
+    }
+
+    @DataProvider(name = "rejected")
+    Object[][] data_rejected() {
+        return new Object[][] {
+            // valid, but not in the common form
+            {DateTimeFormatter.ISO_LOCAL_DATE, "+12012-06-30"},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30t12:30"},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T24:00"},
+            {DateTimeFormatter.ISO_LOCAL_TIME, "12:30:40."},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T12:30z"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T12:30+01:00:30"},
+            {DateTimeFormatter.ISO_ZONED_DATE_TIME, "2012-06-30T12:30+01:00[Europe/Paris]"},
+            {DateTimeFormatter.ISO_INSTANT, "2012-06-30T23:59:60Z"},
+            {DateTimeFormatter.ISO_INSTANT, "2012-06-30T12:30Z"},
+            // invalid
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-02-30"},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2011-02-29"},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-13-01"},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-06-3"},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012/06/30"},
+            {DateTimeFormatter.ISO_LOCAL_TIME, "12:60"},
+            {DateTimeFormatter.ISO_LOCAL_TIME, "12:30:40.1234567890"},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30"},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T12:30Z"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T12:30"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T12:30+18:01"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T12:30+1:00"},
+            // not a supported constant
+            {DateTimeFormatter.ISO_DATE, "2012-06-30"},
+            {DateTimeFormatter.ISO_LOCAL_DATE.withResolverStyle(ResolverStyle.LENIENT), "2012-06-30"},
+        };
+    }
+
+    @Test(dataProvider = "rejected")
+    public void test_rejected(DateTimeFormatter formatter, String text) {
+        assertNull(IsoFastParser.parse(formatter, text, null));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse_types() {
+        assertEquals(LocalDateTime.parse("2012-06-30T12:30:40.5"), LocalDateTime.of(2012, 6, 30, 12, 30, 40, 500000000));
+        assertEquals(OffsetDateTime.parse("2012-06-30T12:30+01:00"),
+                OffsetDateTime.of(LocalDateTime.of(2012, 6, 30, 12, 30), org.threeten.bp.ZoneOffset.ofHours(1)));
+        assertEquals(Instant.parse("1970-01-01T00:00:01.5Z"), Instant.ofEpochSecond(1, 500000000));
+    }
+
+    public void test_parse_invalidFallsBack() {
+        try {
+            LocalDateTime.parse("2012-02-30T12:30");
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getMessage(), "Text '2012-02-30T12:30' could not be parsed: Invalid date 'FEBRUARY 30'");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private static DateTimeBuilder parseGeneral(DateTimeFormatter formatter, String text) {
+        ParsePosition pos = new ParsePosition(0);
+        Parsed parsed = formatter.parseUnresolved0(new DateTimeParseContext(formatter), text, pos);
+        formatter.checkParsed(text, pos, parsed, true);
+        return parsed.toBuilder().resolve(formatter.getResolverStyle(), formatter.getResolverFields());
+    }
+
+}
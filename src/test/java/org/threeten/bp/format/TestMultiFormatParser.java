@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import static org.threeten.bp.temporal.ChronoField.HOUR_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.NANO_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+
+import java.text.ParsePosition;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.format.DateTimeFormatterBuilder.ParseFilter;
+import org.threeten.bp.temporal.TemporalAccessor;
+
+/**
+ * Test MultiFormatParser.
+ */
+@Test
+public class TestMultiFormatParser {
+
+    private static final DateTimeFormatter SLASHES = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+    private static final DateTimeFormatter TEXT = DateTimeFormatter.ofPattern("MMM d, uuuu", Locale.ENGLISH);
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm");
+    private static final MultiFormatParser PARSER = MultiFormatParser.of(
+            DateTimeFormatter.ISO_LOCAL_DATE, SLASHES, TEXT, DATE_TIME, DateTimeFormatter.BASIC_ISO_DATE);
+
+    @DataProvider(name = "valid")
+    Object[][] data_valid() {
+        return new Object[][] {
+            {"2012-06-30", LocalDate.of(2012, 6, 30)},
+            {"30/06/2012", LocalDate.of(2012, 6, 30)},
+            {"Jun 30, 2012", LocalDate.of(2012, 6, 30)},
+            {"2012-06-30 12:30", LocalDate.of(2012, 6, 30)},
+            {"20120630", LocalDate.of(2012, 6, 30)},
+            {"+12012-06-30", LocalDate.of(12012, 6, 30)},
+        };
+    }
+
+    @Test(dataProvider = "valid")
+    public void test_parse(String text, LocalDate expected) {
+        assertEquals(PARSER.parse(text, LocalDate.FROM), expected);
+        assertEquals(LocalDate.from(PARSER.parse(text)), expected);
+    }
+
+    @Test(dataProvider = "valid")
+    public void test_parseUnresolved(String text, LocalDate expected) {
+        ParsePosition pos = new ParsePosition(0);
+        TemporalAccessor parsed = PARSER.parseUnresolved(text, pos);
+        assertEquals(pos.getIndex(), text.length());
+        assertEquals(pos.getErrorIndex(), -1);
+        assertEquals(parsed.getLong(YEAR), expected.getYear());
+    }
+
+    public void test_parse_firstMatchingType() {
+        MultiFormatParser test = MultiFormatParser.of(DateTimeFormatter.ISO_LOCAL_DATE, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        assertEquals(test.parse("2012-06-30T12:30", LocalDateTime.FROM), LocalDateTime.of(2012, 6, 30, 12, 30));
+    }
+
+    public void test_parse_resolveFailureTriesNext() {
+        MultiFormatParser test = MultiFormatParser.of(
+                DateTimeFormatter.ISO_LOCAL_DATE, DateTimeFormatter.ISO_LOCAL_DATE.withResolverStyle(ResolverStyle.LENIENT));
+        assertEquals(test.parse("2012-02-30", LocalDate.FROM), LocalDate.of(2012, 3, 1));
+    }
+
+    public void test_parse_resolveFailure() {
+        try {
+            PARSER.parse("2012-02-30", LocalDate.FROM);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 0);
+            assertEquals(ex.getParsedString(), "2012-02-30");
+            assertTrue(ex.getCause() instanceof RuntimeException);
+        }
+    }
+
+    public void test_parse_noMatch() {
+        try {
+            PARSER.parse("2012-06-30X", LocalDate.FROM);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 10);
+            assertEquals(ex.getParsedString(), "2012-06-30X");
+            assertNull(ex.getCause());
+        }
+    }
+
+    public void test_parseUnresolved_noMatch() {
+        ParsePosition pos = new ParsePosition(0);
+        assertNull(PARSER.parseUnresolved("30/06-2012", pos));
+        assertEquals(pos.getErrorIndex(), 5);
+        assertEquals(pos.getIndex(), 0);
+    }
+
+    public void test_parseUnresolved_position() {
+        ParsePosition pos = new ParsePosition(5);
+        TemporalAccessor parsed = PARSER.parseUnresolved("date:30/06/2012", pos);
+        assertEquals(pos.getIndex(), 15);
+        assertEquals(parsed.getLong(YEAR), 2012);
+    }
+
+    public void test_parseUnresolved_noCandidates() {
+        ParsePosition pos = new ParsePosition(0);
+        assertNull(PARSER.parseUnresolved("#2012", pos));
+        assertEquals(pos.getErrorIndex(), 0);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parseUnresolved_invalidPosition() {
+        PARSER.parseUnresolved("2012-06-30", new ParsePosition(11));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_of_empty() {
+        MultiFormatParser.of();
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_nullFormatter() {
+        MultiFormatParser.of(DateTimeFormatter.ISO_LOCAL_DATE, null);
+    }
+
+    public void test_getFormatters() {
+        assertEquals(PARSER.getFormatters(), Arrays.asList(
+                DateTimeFormatter.ISO_LOCAL_DATE, SLASHES, TEXT, DATE_TIME, DateTimeFormatter.BASIC_ISO_DATE));
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "filter")
+    Object[][] data_filter() {
+        return new Object[][] {
+            {DateTimeFormatter.ISO_LOCAL_DATE, "ParseFilter[+-0123456789,5]"},
+            {SLASHES, "ParseFilter[+-0123456789,5]"},
+            {TEXT, "ParseFilter[*,5]"},
+            {new DateTimeFormatterBuilder().parseCaseInsensitive().appendLiteral("T").toFormatter(), "ParseFilter[Tt,1]"},
+            {new DateTimeFormatterBuilder().appendLiteral('x').appendFraction(YEAR, 2, 4, true).toFormatter(), "ParseFilter[x,4]"},
+            {new DateTimeFormatterBuilder().optionalStart().appendLiteral('x').optionalEnd().toFormatter(), "ParseFilter[*,0]"},
+            {new DateTimeFormatterBuilder().parseLenient().appendFraction(YEAR, 2, 4, true).toFormatter(), "ParseFilter[*,0]"},
+            {new DateTimeFormatterBuilder().appendLiteral('x').parseLenient().appendFraction(YEAR, 2, 4, true)
+                .parseStrict().appendFraction(YEAR, 2, 4, true).toFormatter(), "ParseFilter[x,4]"},
+            {new DateTimeFormatterBuilder().optionalStart().parseLenient().appendLiteral('x').optionalEnd()
+                .appendValue(HOUR_OF_DAY, 2).appendFraction(NANO_OF_SECOND, 3, 9, true).toFormatter(), "ParseFilter[*,1]"},
+            {new DateTimeFormatterBuilder().padNext(2).optionalStart().parseLenient().optionalEnd()
+                .appendFraction(NANO_OF_SECOND, 3, 9, true).toFormatter(), "ParseFilter[*,0]"},
+            {DateTimeFormatter.ISO_LOCAL_DATE.withDecimalStyle(DecimalStyle.STANDARD.withZeroDigit('\u0660')), "ParseFilter[*,5]"},
+        };
+    }
+
+    @Test(dataProvider = "filter")
+    public void test_parseFilter(DateTimeFormatter formatter, String expected) {
+        ParseFilter test = ParseFilter.of(formatter.toPrinterParser(false), formatter.getDecimalStyle());
+        assertEquals(test.toString(), expected);
+    }
+
+    public void test_parse_lenientFraction() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder().appendPattern("HH:mm:ss")
+                .parseLenient().appendFraction(NANO_OF_SECOND, 3, 9, true).toFormatter();
+        MultiFormatParser test = MultiFormatParser.of(f);
+        assertEquals(test.parse("12:30:40", LocalTime.FROM), LocalTime.of(12, 30, 40));
+        assertEquals(test.parse("12:30:40.5", LocalTime.FROM), LocalTime.of(12, 30, 40, 500000000));
+        assertNotNull(test.parseUnresolved("12:30:40", new ParsePosition(0)));
+        MultiFormatParser fractionOnly = MultiFormatParser.of(new DateTimeFormatterBuilder()
+                .parseLenient().appendFraction(NANO_OF_SECOND, 3, 9, true).toFormatter());
+        assertNotNull(fractionOnly.parseUnresolved("", new ParsePosition(0)));
+        MultiFormatParser optionalLenient = MultiFormatParser.of(new DateTimeFormatterBuilder()
+                .optionalStart().parseLenient().appendLiteral('x').optionalEnd()
+                .appendValue(HOUR_OF_DAY, 2).appendFraction(NANO_OF_SECOND, 3, 9, true).toFormatter());
+        assertNotNull(optionalLenient.parseUnresolved("12", new ParsePosition(0)));
+    }
+
+    public void test_parseFilter_accepts() {
+        ParseFilter test = ParseFilter.of(SLASHES.toPrinterParser(false), SLASHES.getDecimalStyle());
+        assertTrue(test.accepts("30/06/2012", 0));
+        assertFalse(test.accepts("\u0660", 0));  // too short
+        assertTrue(test.accepts("\u0660/1/1", 0));
+        assertFalse(test.accepts("J0/06/2012", 0));
+        assertFalse(test.accepts("3/6/", 0));
+    }
+
+}
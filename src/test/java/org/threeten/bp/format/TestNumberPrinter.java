@@ -36,6 +36,8 @@ import static org.testng.Assert.fail;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
 import static org.threeten.bp.temporal.ChronoField.HOUR_OF_DAY;
 
+import java.util.Locale;
+
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.threeten.bp.DateTimeException;
@@ -56,6 +58,21 @@ public class TestNumberPrinter extends AbstractTestPrinterParser {
         pp.print(printEmptyContext, buf);
     }
 
+    public void test_print_emptyCalendrical_optional() throws Exception {
+        NumberPrinterParser pp = new NumberPrinterParser(DAY_OF_MONTH, 1, 2, SignStyle.NEVER);
+        printEmptyContext.startOptional();
+        assertEquals(pp.print(printEmptyContext, buf), false);
+        assertEquals(buf.toString(), "");
+    }
+
+    public void test_print_minValue() throws Exception {
+        printContext.setDateTime(new MockFieldValue(DAY_OF_MONTH, Long.MIN_VALUE));
+        NumberPrinterParser pp = new NumberPrinterParser(DAY_OF_MONTH, 1, 19, SignStyle.NORMAL);
+        printContext.startOptional();
+        assertEquals(pp.print(printContext, buf), true);
+        assertEquals(buf.toString(), "-9223372036854775808");
+    }
+
     public void test_print_append() throws Exception {
         printContext.setDateTime(LocalDate.of(2012, 1, 3));
         NumberPrinterParser pp = new NumberPrinterParser(DAY_OF_MONTH, 1, 2, SignStyle.NEVER);
@@ -64,6 +81,30 @@ public class TestNumberPrinter extends AbstractTestPrinterParser {
         assertEquals(buf.toString(), "EXISTING3");
     }
 
+    public void test_appendDigits() throws Exception {
+        long[] values = {0, 7, 10, 99, 100, 12345, Integer.MAX_VALUE, Integer.MAX_VALUE + 1L, 9876543210123L, Long.MAX_VALUE};
+        for (long value : values) {
+            String expected = Long.toString(value);
+            for (int digits = expected.length(); digits <= 19; digits++) {
+                StringBuilder appended = new StringBuilder("x");
+                NumberPrinterParser.appendDigits(appended, value, digits, '0');
+                StringBuilder padded = new StringBuilder("x");
+                for (int i = expected.length(); i < digits; i++) {
+                    padded.append('0');
+                }
+                assertEquals(appended.toString(), padded.append(expected).toString());
+            }
+        }
+    }
+
+    public void test_print_zeroDigit() throws Exception {
+        DateTimePrintContext context = new DateTimePrintContext(
+                new MockFieldValue(DAY_OF_MONTH, 1234567890123L), Locale.ENGLISH, DecimalStyle.STANDARD.withZeroDigit('\u0660'));
+        NumberPrinterParser pp = new NumberPrinterParser(DAY_OF_MONTH, 15, 19, SignStyle.NORMAL);
+        pp.print(context, buf);
+        assertEquals(buf.toString(), "\u0660\u0660\u0661\u0662\u0663\u0664\u0665\u0666\u0667\u0668\u0669\u0660\u0661\u0662\u0663");
+    }
+
     //-----------------------------------------------------------------------
     @DataProvider(name="Pad")
     Object[][] provider_pad() {
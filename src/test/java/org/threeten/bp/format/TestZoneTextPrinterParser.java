@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.format.DateTimeFormatterBuilder.ZoneTextPrinterParser;
+
+/**
+ * Test ZoneTextPrinterParser.
+ */
+@Test
+public class TestZoneTextPrinterParser extends AbstractTestPrinterParser {
+
+    //-----------------------------------------------------------------------
+    public void test_print_standard() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+        DateTimePrintContext context = new DateTimePrintContext(
+                LocalDateTime.of(2011, 1, 30, 12, 30).atZone(ZoneId.of("Europe/Paris")), Locale.ENGLISH, DecimalStyle.STANDARD);
+        String expected = TimeZone.getTimeZone("Europe/Paris").getDisplayName(false, TimeZone.LONG, Locale.ENGLISH);
+        for (int i = 0; i < 2; i++) {
+            buf.setLength(0);
+            pp.print(context, buf);
+            assertEquals(buf.toString(), expected);
+        }
+    }
+
+    public void test_print_daylight() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.SHORT);
+        String expected = TimeZone.getTimeZone("Europe/Paris").getDisplayName(true, TimeZone.SHORT, Locale.ENGLISH);
+        for (int i = 0; i < 2; i++) {
+            buf.setLength(0);
+            pp.print(printContext, buf);
+            assertEquals(buf.toString(), expected);
+        }
+    }
+
+    public void test_print_locale() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+        DateTimePrintContext context = new DateTimePrintContext(
+                LocalDateTime.of(2011, 6, 30, 12, 30).atZone(ZoneId.of("Europe/Paris")), Locale.FRENCH, DecimalStyle.STANDARD);
+        pp.print(context, buf);
+        assertEquals(buf.toString(), TimeZone.getTimeZone("Europe/Paris").getDisplayName(true, TimeZone.LONG, Locale.FRENCH));
+    }
+
+    public void test_print_offset() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+        DateTimePrintContext context = new DateTimePrintContext(
+                LocalDateTime.of(2011, 6, 30, 12, 30).atZone(ZoneOffset.ofHours(2)), Locale.ENGLISH, DecimalStyle.STANDARD);
+        pp.print(context, buf);
+        assertEquals(buf.toString(), "+02:00");
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse_zoneId() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+        int result = pp.parse(parseContext, "Europe/London", 0);
+        assertEquals(result, 13);
+        assertEquals(parseContext.toParsed().zone, ZoneId.of("Europe/London"));
+    }
+
+    public void test_parse_zoneId_midString() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+        int result = pp.parse(parseContext, "OTHEREurope/LondonOTHER", 5);
+        assertEquals(result, 18);
+        assertEquals(parseContext.toParsed().zone, ZoneId.of("Europe/London"));
+    }
+
+    public void test_parse_longestMatch() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+        int result = pp.parse(parseContext, "Etc/GMT-14", 0);
+        assertEquals(result, 10);
+        assertEquals(parseContext.toParsed().zone, ZoneId.of("Etc/GMT-14"));
+    }
+
+    public void test_parse_fullName() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+        String name = TimeZone.getTimeZone("America/Los_Angeles").getDisplayName(false, TimeZone.LONG, Locale.ENGLISH);
+        int result = pp.parse(parseContext, name + " OTHER", 0);
+        assertEquals(result, name.length());
+        ZoneId zone = parseContext.toParsed().zone;
+        assertNotNull(zone);
+        TimeZone tz = TimeZone.getTimeZone(zone.getId());
+        assertEquals(tz.getDisplayName(false, TimeZone.LONG, Locale.ENGLISH), name);
+    }
+
+    public void test_parse_shortName() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.SHORT);
+        String name = TimeZone.getTimeZone("America/Los_Angeles").getDisplayName(true, TimeZone.SHORT, Locale.ENGLISH);
+        int result = pp.parse(parseContext, name, 0);
+        assertEquals(result, name.length());
+        ZoneId zone = parseContext.toParsed().zone;
+        assertNotNull(zone);
+        TimeZone tz = TimeZone.getTimeZone(zone.getId());
+        assertEquals(zone.getId().equals(name) || tz.getDisplayName(true, TimeZone.SHORT, Locale.ENGLISH).equals(name) ||
+                tz.getDisplayName(false, TimeZone.SHORT, Locale.ENGLISH).equals(name), true);
+    }
+
+    public void test_parse_caseInsensitive() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+        parseContext.setCaseSensitive(false);
+        int result = pp.parse(parseContext, "europe/london", 0);
+        assertEquals(result, 13);
+        assertEquals(parseContext.toParsed().zone, ZoneId.of("Europe/London"));
+    }
+
+    public void test_parse_caseSensitive_noMatch() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+        int result = pp.parse(parseContext, "europe/london", 0);
+        assertEquals(result, ~0);
+        assertNull(parseContext.toParsed().zone);
+    }
+
+    public void test_parse_noMatch() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+        int result = pp.parse(parseContext, "OTHER!!!", 5);
+        assertEquals(result, ~5);
+        assertNull(parseContext.toParsed().zone);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_toString() {
+        assertEquals(new ZoneTextPrinterParser(TextStyle.FULL).toString(), "ZoneText(FULL)");
+    }
+
+}
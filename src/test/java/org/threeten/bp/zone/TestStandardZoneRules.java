@@ -35,11 +35,14 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -473,6 +476,31 @@ public class TestStandardZoneRules {
         }
     }
 
+    public void test_London_getOffset_rulesBased() {
+        ZoneRules test = europeLondon();
+        List<ZoneOffsetTransitionRule> rules = test.getTransitionRules();
+        for (int year = 1998; year < 2110; year++) {
+            ZoneOffsetTransition a = rules.get(0).createTransition(year);
+            ZoneOffsetTransition b = rules.get(1).createTransition(year);
+
+            assertEquals(test.getOffset(createInstant(year, 1, 1, ZoneOffset.UTC)), OFFSET_ZERO);
+            assertEquals(test.getOffset(a.getInstant().minusNanos(1)), OFFSET_ZERO);
+            assertEquals(test.getOffset(a.getInstant()), OFFSET_PONE);
+            assertEquals(test.getOffset(b.getInstant().minusNanos(1)), OFFSET_PONE);
+            assertEquals(test.getOffset(b.getInstant()), OFFSET_ZERO);
+            assertEquals(test.getOffset(createInstant(year, 12, 31, 23, 59, 59, 999999999, ZoneOffset.UTC)), OFFSET_ZERO);
+
+            checkOffset(test, createLDT(year, 1, 1), OFFSET_ZERO, 1);
+            checkOffset(test, a.getDateTimeBefore().minusNanos(1), OFFSET_ZERO, 1);
+            assertEquals(checkOffset(test, a.getDateTimeBefore(), OFFSET_ZERO, GAP), a);
+            checkOffset(test, a.getDateTimeAfter(), OFFSET_PONE, 1);
+            checkOffset(test, b.getDateTimeAfter().minusNanos(1), OFFSET_PONE, 1);
+            assertEquals(checkOffset(test, b.getDateTimeAfter(), OFFSET_PONE, OVERLAP), b);
+            checkOffset(test, b.getDateTimeBefore(), OFFSET_ZERO, 1);
+            checkOffset(test, LocalDateTime.of(year, 12, 31, 23, 59, 59, 999999999), OFFSET_ZERO, 1);
+        }
+    }
+
     //-----------------------------------------------------------------------
     // Europe/Paris
     //-----------------------------------------------------------------------
@@ -894,6 +922,57 @@ public class TestStandardZoneRules {
         test.getTransitions().clear();
     }
 
+    public void test_distinctOffsets() {
+        List<ZoneOffsetTransition> trans = new ArrayList<ZoneOffsetTransition>();
+        for (int i = 1; i < 256; i++) {
+            trans.add(new ZoneOffsetTransition(i * 86400L, ZoneOffset.ofTotalSeconds(i - 1), ZoneOffset.ofTotalSeconds(i)));
+        }
+        List<ZoneOffsetTransition> none = Collections.emptyList();
+        List<ZoneOffsetTransitionRule> noRules = Collections.emptyList();
+        StandardZoneRules test = new StandardZoneRules(OFFSET_ZERO, OFFSET_ZERO, none, trans, noRules);
+        assertEquals(test.getOffset(Instant.ofEpochSecond(255 * 86400L)), ZoneOffset.ofTotalSeconds(255));
+        assertEquals(test.getTransitions(), trans);
+        trans.add(new ZoneOffsetTransition(256 * 86400L, ZoneOffset.ofTotalSeconds(255), ZoneOffset.ofTotalSeconds(256)));
+        try {
+            new StandardZoneRules(OFFSET_ZERO, OFFSET_ZERO, none, trans, noRules);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void test_nextTransition_farFuture_cacheConflict() {
+        ZoneRules test = europeLondon();
+        int[] years = {2099, 2100, 2300, 2300 + 128, 2300, 9999, 2300 + 128 * 3};
+        for (int repeat = 0; repeat < 2; repeat++) {
+            for (int year : years) {
+                Instant instant = createInstant(year, 1, 1, 0, 0, 0, 0, OFFSET_ZERO);
+                ZoneOffsetTransition spring = test.nextTransition(instant);
+                assertEquals(spring, test.getTransitionRules().get(0).createTransition(year));
+                ZoneOffsetTransition autumn = test.nextTransition(spring.getInstant());
+                assertEquals(autumn, test.getTransitionRules().get(1).createTransition(year));
+                assertEquals(test.previousTransition(autumn.getInstant()), spring);
+                assertEquals(test.getTransition(spring.getDateTimeBefore()), spring);
+                assertEquals(test.getOffset(autumn.getInstant()), OFFSET_ZERO);
+            }
+        }
+    }
+
+    public void test_getTransition_allZones_historic() {
+        for (String zoneId : ZoneRulesProvider.getAvailableZoneIds()) {
+            ZoneRules test = ZoneRulesProvider.getRules(zoneId, false);
+            for (ZoneOffsetTransition trans : test.getTransitions()) {
+                if (trans.getOffsetBefore().equals(trans.getOffsetAfter())) {
+                    continue;
+                }
+                LocalDateTime start = (trans.isGap() ? trans.getDateTimeBefore() : trans.getDateTimeAfter());
+                assertEquals(test.getTransition(start), trans, zoneId);
+                assertEquals(test.getTransition(start.plusNanos(1)), trans, zoneId);
+                assertEquals(test.getValidOffsets(start.plusNanos(1)), trans.getValidOffsets(), zoneId);
+            }
+        }
+    }
+
     @Test(expectedExceptions=UnsupportedOperationException.class)
     public void test_getTransitionRules_immutable() {
         ZoneRules test = europeParis();
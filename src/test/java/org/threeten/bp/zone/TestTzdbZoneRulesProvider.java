@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.zone;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.io.DataInputStream;
+import java.nio.ByteBuffer;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.zone.TzdbZoneRulesProvider.ByteBufferInputStream;
+
+/**
+ * Test TzdbZoneRulesProvider.
+ */
+@Test
+public class TestTzdbZoneRulesProvider {
+
+    public void test_provideRules_allRegions() {
+        TzdbZoneRulesProvider test = new TzdbZoneRulesProvider();
+        for (String zoneId : test.provideZoneIds()) {
+            ZoneRules rules = test.provideRules(zoneId, true);
+            assertEquals(rules, ZoneRulesProvider.getRules(zoneId, false), zoneId);
+            assertSame(test.provideRules(zoneId, true), rules, zoneId);
+        }
+    }
+
+    public void test_provideVersions_sameRules() {
+        TzdbZoneRulesProvider test = new TzdbZoneRulesProvider();
+        ZoneRules rules = test.provideRules("Europe/London", true);
+        assertSame(test.provideVersions("Europe/London").lastEntry().getValue(), rules);
+    }
+
+    public void test_ByteBufferInputStream() throws Exception {
+        ByteBuffer buf = ByteBuffer.allocateDirect(16);
+        buf.put(new byte[] {9, 9, 0, 3, 'a', 'b', 'c', -1, 9});
+        ByteBufferInputStream in = new ByteBufferInputStream(buf, 2, 6);
+        DataInputStream dis = new DataInputStream(in);
+        assertEquals(dis.readUTF(), "abc");
+        assertEquals(in.position(), 7);
+        assertEquals(in.available(), 1);
+        assertEquals(in.read(), 255);
+        assertEquals(in.read(), -1);
+        assertEquals(in.read(new byte[4], 0, 4), -1);
+        assertEquals(in.skip(5), 0);
+        assertEquals(buf.position(), 9);
+    }
+
+}
@@ -33,15 +33,26 @@ package org.threeten.bp.zone;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.threeten.bp.DayOfWeek.SUNDAY;
+import static org.threeten.bp.temporal.TemporalAdjusters.previousOrSame;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.NavigableMap;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.ZoneId;
 import org.threeten.bp.ZoneOffset;
 
 /**
@@ -50,6 +61,18 @@ import org.threeten.bp.ZoneOffset;
 @Test
 public class TestZoneRulesProvider {
 
+    private ExecutorService executor;
+
+    @BeforeClass
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        executor.shutdown();
+    }
+
     //-----------------------------------------------------------------------
     // getAvailableZoneIds()
     //-----------------------------------------------------------------------
@@ -119,6 +142,98 @@ public class TestZoneRulesProvider {
         assertEquals(ZoneRulesProvider.refresh(), false);
     }
 
+    @Test
+    public void test_refresh_clearsCache() {
+        MockDynamicProvider provider = new MockDynamicProvider();
+        ZoneRulesProvider.registerProvider(provider);
+        ZoneId zone = ZoneId.of("DynamicLocation");
+        assertEquals(zone.getRules(), ZoneOffset.of("+01:00").getRules());
+        assertSame(ZoneId.of("DynamicLocation"), zone);
+
+        provider.rules = ZoneOffset.of("+02:00").getRules();
+        assertSame(ZoneRulesProvider.getRules("DynamicLocation", true), zone.getRules());
+        assertEquals(ZoneRulesProvider.refresh(), true);
+        ZoneId refreshed = ZoneId.of("DynamicLocation");
+        assertEquals(refreshed.getRules(), ZoneOffset.of("+02:00").getRules());
+        assertSame(ZoneId.of("DynamicLocation"), refreshed);
+    }
+
+    @Test
+    public void test_refresh_duringLoad_doesNotCacheStaleRules() {
+        MockRacingProvider provider = new MockRacingProvider();
+        ZoneRulesProvider.registerProvider(provider);
+        provider.refreshDuringLoad = true;
+        assertEquals(ZoneRulesProvider.getRules("RacingLocation", true), ZoneOffset.of("+01:00").getRules());
+        assertEquals(ZoneRulesProvider.getRules("RacingLocation", true), ZoneOffset.of("+03:00").getRules());
+    }
+
+    //-----------------------------------------------------------------------
+    // warmUp()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_warmUp_all() {
+        Set<String> zoneIds = ZoneRulesProvider.getAvailableZoneIds();
+        long nanos = ZoneRulesProvider.warmUp(zoneIds, 2000, 2030, executor);
+        assertTrue(nanos >= 0);
+        for (String zoneId : zoneIds) {
+            ZoneRules rules = ZoneRulesProvider.getRules(zoneId, true);
+            assertSame(ZoneRulesProvider.getRules(zoneId, true), rules);
+            assertEquals(rules, ZoneRulesProvider.getRules(zoneId, false));
+        }
+    }
+
+    @Test
+    public void test_warmUp_subset() {
+        ZoneRulesProvider.warmUp(Arrays.asList("Europe/London", "America/New_York"), 2100, 2100, executor);
+        ZoneRules rules = ZoneRulesProvider.getRules("Europe/London", true);
+        assertEquals(rules.getTransitions(), ZoneRulesProvider.getRules("Europe/London", false).getTransitions());
+    }
+
+    @Test
+    public void test_warmUp_empty() {
+        assertTrue(ZoneRulesProvider.warmUp(Collections.<String>emptySet(), 2000, 2030, executor) >= 0);
+    }
+
+    @Test
+    public void test_warmUp_wideWindowStaysCached() {
+        ZoneRules rules = ZoneRulesProvider.getRules("Europe/London", true);
+        ZoneOffsetTransition[] gaps = new ZoneOffsetTransition[128];
+        for (int i = 0; i < gaps.length; i++) {
+            gaps[i] = rules.getTransition(LocalDate.of(2000 + i, 3, 31).with(previousOrSame(SUNDAY)).atTime(1, 30));
+            assertNotNull(gaps[i]);
+        }
+        ZoneRulesProvider.warmUp(Arrays.asList("Europe/London"), 2000, 2127, executor);
+        assertSame(ZoneRulesProvider.getRules("Europe/London", true), rules);
+        for (int i = 0; i < gaps.length; i++) {
+            assertSame(rules.getTransition(gaps[i].getDateTimeBefore()), gaps[i]);
+        }
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_warmUp_windowTooWide() {
+        ZoneRulesProvider.warmUp(Arrays.asList("Europe/London"), 2000, 2128, executor);
+    }
+
+    @Test(expectedExceptions=ZoneRulesException.class)
+    public void test_warmUp_unknownId() {
+        ZoneRulesProvider.warmUp(Arrays.asList("Europe/London", "Europe/Lon"), 2000, 2030, executor);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_warmUp_endBeforeStart() {
+        ZoneRulesProvider.warmUp(Arrays.asList("Europe/London"), 2030, 2000, executor);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_warmUp_invalidYear() {
+        ZoneRulesProvider.warmUp(Arrays.asList("Europe/London"), 2000, Integer.MAX_VALUE, executor);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_warmUp_nullExecutor() {
+        ZoneRulesProvider.warmUp(Arrays.asList("Europe/London"), 2000, 2030, null);
+    }
+
     //-----------------------------------------------------------------------
     // registerProvider()
     //-----------------------------------------------------------------------
@@ -155,4 +270,68 @@ public class TestZoneRulesProvider {
         }
     }
 
+    static class MockRacingProvider extends ZoneRulesProvider {
+        volatile ZoneRules rules = ZoneOffset.of("+01:00").getRules();
+        volatile ZoneRules refreshedRules = rules;
+        volatile boolean refreshDuringLoad;
+        @Override
+        public Set<String> provideZoneIds() {
+            return new HashSet<String>(Collections.singleton("RacingLocation"));
+        }
+        @Override
+        protected NavigableMap<String, ZoneRules> provideVersions(String zoneId) {
+            NavigableMap<String, ZoneRules> result = new TreeMap<String, ZoneRules>();
+            result.put("RacingVersion", rules);
+            return result;
+        }
+        @Override
+        protected ZoneRules provideRules(String zoneId, boolean forCaching) {
+            if (zoneId.equals("RacingLocation")) {
+                ZoneRules loaded = rules;
+                if (refreshDuringLoad) {
+                    // simulate another thread refreshing after the rules were loaded
+                    refreshDuringLoad = false;
+                    rules = ZoneOffset.of("+03:00").getRules();
+                    ZoneRulesProvider.refresh();
+                }
+                return loaded;
+            }
+            throw new ZoneRulesException("Invalid");
+        }
+        @Override
+        protected boolean provideRefresh() {
+            boolean changed = (refreshedRules != rules);
+            refreshedRules = rules;
+            return changed;
+        }
+    }
+
+    static class MockDynamicProvider extends ZoneRulesProvider {
+        volatile ZoneRules rules = ZoneOffset.of("+01:00").getRules();
+        volatile ZoneRules refreshedRules = rules;
+        @Override
+        public Set<String> provideZoneIds() {
+            return new HashSet<String>(Collections.singleton("DynamicLocation"));
+        }
+        @Override
+        protected NavigableMap<String, ZoneRules> provideVersions(String zoneId) {
+            NavigableMap<String, ZoneRules> result = new TreeMap<String, ZoneRules>();
+            result.put("DynamicVersion", rules);
+            return result;
+        }
+        @Override
+        protected ZoneRules provideRules(String zoneId, boolean forCaching) {
+            if (zoneId.equals("DynamicLocation")) {
+                return rules;
+            }
+            throw new ZoneRulesException("Invalid");
+        }
+        @Override
+        protected boolean provideRefresh() {
+            boolean changed = (refreshedRules != rules);
+            refreshedRules = rules;
+            return changed;
+        }
+    }
+
 }